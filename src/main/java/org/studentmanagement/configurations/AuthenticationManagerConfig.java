@@ -6,8 +6,11 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.studentmanagement.security.CachingAuthenticationProvider;
+import org.studentmanagement.services.CredentialCacheService;
 
 @Configuration
 @EnableWebSecurity
@@ -15,11 +18,14 @@ public class AuthenticationManagerConfig {
     @Bean
     public AuthenticationManager authenticationManager(
             UserDetailsService userDetailsService,
-            PasswordEncoder passwordEncoder) {
+            UserDetailsPasswordService userDetailsPasswordService,
+            PasswordEncoder passwordEncoder,
+            CredentialCacheService credentialCacheService) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
 
-        return new ProviderManager(authenticationProvider);
+        return new ProviderManager(new CachingAuthenticationProvider(authenticationProvider, credentialCacheService));
     }
 }
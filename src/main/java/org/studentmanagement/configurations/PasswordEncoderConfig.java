@@ -1,14 +1,33 @@
 package org.studentmanagement.configurations;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.studentmanagement.security.BoundedPasswordEncoder;
+
+import java.time.Duration;
 
 @Configuration
 public class PasswordEncoderConfig {
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(Environment environment, MeterRegistry meterRegistry) {
+        int threads = environment.getProperty(
+                "app.security.password-hashing.threads",
+                Integer.class,
+                Runtime.getRuntime().availableProcessors());
+        int queueCapacity = environment.getProperty(
+                "app.security.password-hashing.queue-capacity",
+                Integer.class,
+                100);
+        Duration timeout = environment.getProperty(
+                "app.security.password-hashing.timeout",
+                Duration.class,
+                Duration.ofSeconds(5));
+        int strength = environment.getProperty("app.security.bcrypt.strength", Integer.class, 10);
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, timeout, meterRegistry);
     }
 }
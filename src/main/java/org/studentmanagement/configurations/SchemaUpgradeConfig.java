@@ -0,0 +1,14 @@
+package org.studentmanagement.configurations;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.studentmanagement.services.SchemaUpgradeService;
+
+@Configuration
+public class SchemaUpgradeConfig {
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaUpgradeDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SchemaUpgradeService.class);
+    }
+}
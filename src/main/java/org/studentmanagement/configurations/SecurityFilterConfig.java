@@ -1,15 +1,16 @@
 package org.studentmanagement.configurations;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
+import org.studentmanagement.data.enums.RoleEnum;
 import org.studentmanagement.security.AuthenticationFilter;
 import org.studentmanagement.security.JwtAuthenticationEntryPoint;
 
@@ -28,11 +29,14 @@ public class SecurityFilterConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests((authorize) -> {
-                    authorize.requestMatchers("/login").permitAll();
+                    authorize.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                    authorize.requestMatchers("/login", "/login/refresh").permitAll();
                     authorize.requestMatchers(HttpMethod.POST, "/user").permitAll();
+                    authorize.requestMatchers("/admin/**").hasAuthority(RoleEnum.ADMIN.name());
                     authorize.anyRequest().authenticated();
-                }).httpBasic(Customizer.withDefaults());
+                }).httpBasic(basic -> basic.authenticationEntryPoint(authenticationEntryPoint));
 
         http.exceptionHandling(exception -> exception.authenticationEntryPoint(authenticationEntryPoint));
 
@@ -0,0 +1,14 @@
+package org.studentmanagement.data.bindingModels;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenBindingModel {
+    private String refreshToken;
+}
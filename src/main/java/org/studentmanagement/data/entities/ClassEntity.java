@@ -4,10 +4,13 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
-@Table(name = "classes")
+@NamedEntityGraph(
+        name = "ClassEntity.detail",
+        attributeNodes = {@NamedAttributeNode("teacher"), @NamedAttributeNode("students")})
+@Table(name = "classes", indexes = @Index(columnList = "teacher_id, id"))
 @Entity
 @Getter
 @Setter
@@ -21,13 +24,18 @@ public class ClassEntity extends BaseEntity {
     @ManyToOne
     private UserEntity teacher;
     @ManyToMany
-    private List<UserEntity> students;
+    @JoinTable(
+            name = "classes_students",
+            joinColumns = @JoinColumn(name = "class_entity_id"),
+            inverseJoinColumns = @JoinColumn(name = "students_id"),
+            indexes = @Index(columnList = "students_id, class_entity_id"))
+    private Set<UserEntity> students;
 
     public ClassEntity() {
-        students = new LinkedList<>();
+        students = new HashSet<>();
     }
 
-    public void addStudent(UserEntity student) {
-        students.add(student);
+    public boolean addStudent(UserEntity student) {
+        return students.add(student);
     }
 }
@@ -1,21 +1,40 @@
 package org.studentmanagement.data.entities;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.util.Date;
 
 @Entity(name = "tokens")
+@Table(indexes = {
+        @Index(columnList = "user_id"),
+        @Index(columnList = "expirationDate"),
+        @Index(columnList = "refreshExpirationDate")
+})
 @Getter
+@Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class TokenEntity extends BaseEntity {
-    @OneToOne
+    @ManyToOne
     private UserEntity user;
+    @Column(nullable = false, unique = true, length = 36)
+    private String tokenId;
+    @Transient
     private String token;
     private Date creationDate;
     private Date expirationDate;
+    @Transient
+    private String refreshToken;
+    @Column(unique = true, length = 43)
+    private String refreshTokenDigest;
+    private Date refreshExpirationDate;
 }
@@ -7,11 +7,12 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.lang.NonNull;
 import org.studentmanagement.data.enums.RoleEnum;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Table(name = "users")
 @Entity
@@ -34,11 +35,14 @@ public class UserEntity extends BaseEntity {
     @NonNull
     @Enumerated(EnumType.STRING)
     private RoleEnum role;
-    @ManyToMany
-    private List<UserEntity> classes;
+    @ManyToMany(mappedBy = "students")
+    private Set<ClassEntity> classes;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long tokenEpoch;
 
     public UserEntity() {
         role = RoleEnum.PENDING;
-        classes = new LinkedList<>();
+        classes = new HashSet<>();
     }
 }
@@ -0,0 +1,5 @@
+package org.studentmanagement.data.enums;
+
+public enum RosterSortEnum {
+    ID, LAST_NAME
+}
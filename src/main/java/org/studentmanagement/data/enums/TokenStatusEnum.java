@@ -0,0 +1,5 @@
+package org.studentmanagement.data.enums;
+
+public enum TokenStatusEnum {
+    VALID, MALFORMED, INVALID_SIGNATURE, EXPIRED, REVOKED
+}
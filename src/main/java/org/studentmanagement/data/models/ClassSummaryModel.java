@@ -0,0 +1,16 @@
+package org.studentmanagement.data.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ClassSummaryModel {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final Long teacherId;
+    private final String teacherFirstName;
+    private final String teacherLastName;
+    private final Long studentCount;
+}
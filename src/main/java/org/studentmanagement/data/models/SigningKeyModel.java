@@ -0,0 +1,19 @@
+package org.studentmanagement.data.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class SigningKeyModel {
+    private final String keyId;
+    private final SecretKey key;
+    private final Instant retirementTime;
+
+    public boolean isUsableAt(Instant time) {
+        return retirementTime == null || time.isBefore(retirementTime);
+    }
+}
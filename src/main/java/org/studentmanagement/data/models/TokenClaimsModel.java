@@ -0,0 +1,22 @@
+package org.studentmanagement.data.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class TokenClaimsModel {
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String EPOCH_CLAIM = "epoch";
+
+    private final String tokenId;
+    private final String subject;
+    private final Long userId;
+    private final String role;
+    private final long epoch;
+    private final Instant issuedAt;
+    private final Instant expirationTime;
+}
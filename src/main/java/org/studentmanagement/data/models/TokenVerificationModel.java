@@ -0,0 +1,29 @@
+package org.studentmanagement.data.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.studentmanagement.data.enums.RoleEnum;
+import org.studentmanagement.data.enums.TokenStatusEnum;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class TokenVerificationModel {
+    private final String tokenId;
+    private final String subject;
+    private final Long userId;
+    private final Long epoch;
+    private final RoleEnum role;
+    private final Instant issuedAt;
+    private final Instant expirationTime;
+    private final TokenStatusEnum status;
+
+    public static TokenVerificationModel rejected(TokenStatusEnum status) {
+        return new TokenVerificationModel(null, null, null, null, null, null, null, status);
+    }
+
+    public boolean isValid() {
+        return status == TokenStatusEnum.VALID;
+    }
+}
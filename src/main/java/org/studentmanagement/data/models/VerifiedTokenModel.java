@@ -0,0 +1,19 @@
+package org.studentmanagement.data.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedTokenModel {
+    private final String tokenId;
+    private final String subject;
+    private final Long userId;
+    private final Long epoch;
+    private final List<GrantedAuthority> authorities;
+    private final Instant expirationTime;
+}
@@ -1,14 +1,71 @@
 package org.studentmanagement.data.repositories;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.studentmanagement.data.entities.ClassEntity;
-import org.studentmanagement.data.entities.UserEntity;
+import org.studentmanagement.data.models.ClassSummaryModel;
+import org.studentmanagement.data.viewModels.StudentViewModel;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ClassRepository extends CrudRepository<ClassEntity, Long> {
-    List<ClassEntity> findAllByTeacher(UserEntity user);
-    List<ClassEntity> findAllByStudentsContains(UserEntity user);
+    @EntityGraph("ClassEntity.detail")
+    Optional<ClassEntity> findDetailById(Long id);
+
+    boolean existsByIdAndStudentsId(Long classId, Long studentId);
+
+    @Query("select new org.studentmanagement.data.models.ClassSummaryModel(" +
+            "c.id, c.title, c.description, t.id, t.firstName, t.lastName, " +
+            "(select count(cs) from ClassEntity cc join cc.students cs where cc.id = c.id)) " +
+            "from ClassEntity c left join c.teacher t " +
+            "where c.id = :id")
+    Optional<ClassSummaryModel> findSummaryById(@Param("id") Long id);
+
+    @Query("select new org.studentmanagement.data.models.ClassSummaryModel(" +
+            "c.id, c.title, c.description, t.id, t.firstName, t.lastName, " +
+            "(select count(cs) from ClassEntity cc join cc.students cs where cc.id = c.id)) " +
+            "from ClassEntity c join c.teacher t " +
+            "where t.id = :teacherId and c.id > :afterId " +
+            "order by c.id")
+    List<ClassSummaryModel> findSummariesByTeacherId(
+            @Param("teacherId") Long teacherId,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    @Query("select new org.studentmanagement.data.models.ClassSummaryModel(" +
+            "c.id, c.title, c.description, t.id, t.firstName, t.lastName, " +
+            "(select count(cs) from ClassEntity cc join cc.students cs where cc.id = c.id)) " +
+            "from ClassEntity c join c.students s left join c.teacher t " +
+            "where s.id = :studentId and c.id > :afterId " +
+            "order by c.id")
+    List<ClassSummaryModel> findSummariesByStudentId(
+            @Param("studentId") Long studentId,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    @Query("select new org.studentmanagement.data.viewModels.StudentViewModel(s.id, s.firstName, s.lastName) " +
+            "from ClassEntity c join c.students s " +
+            "where c.id = :classId and s.id > :afterId " +
+            "order by s.id")
+    List<StudentViewModel> findStudentsOrderById(
+            @Param("classId") Long classId,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    @Query("select new org.studentmanagement.data.viewModels.StudentViewModel(s.id, s.firstName, s.lastName) " +
+            "from ClassEntity c join c.students s " +
+            "where c.id = :classId " +
+            "and (s.lastName > :afterLastName or (s.lastName = :afterLastName and s.id > :afterId)) " +
+            "order by s.lastName, s.id")
+    List<StudentViewModel> findStudentsOrderByLastName(
+            @Param("classId") Long classId,
+            @Param("afterLastName") String afterLastName,
+            @Param("afterId") Long afterId,
+            Limit limit);
 }
@@ -1,15 +1,60 @@
 package org.studentmanagement.data.repositories;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.studentmanagement.data.entities.TokenEntity;
 import org.studentmanagement.data.entities.UserEntity;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TokenRepository extends CrudRepository<TokenEntity, Long> {
-    Optional<TokenEntity> findTokenEntityByTokenAndUserEmail(String token, String userEmail);
-    Optional<TokenEntity> findTokenEntityByUser(UserEntity user);
-    Optional<TokenEntity> findTokenEntityByToken(String token);
+    long countByUser(UserEntity user);
+    List<TokenEntity> findTokenEntitiesByUserOrderByCreationDateAsc(UserEntity user, Limit limit);
+    Optional<TokenEntity> findTokenEntityByRefreshTokenDigest(String refreshTokenDigest);
+
+    @Modifying
+    @Transactional
+    @Query("update tokens t set t.tokenId = :tokenId, t.creationDate = :creationDate, " +
+            "t.expirationDate = :expirationDate, t.refreshTokenDigest = :refreshTokenDigest, " +
+            "t.refreshExpirationDate = :refreshExpirationDate " +
+            "where t.id = :id and t.refreshTokenDigest = :previousRefreshTokenDigest")
+    int rotate(@Param("id") Long id,
+               @Param("previousRefreshTokenDigest") String previousRefreshTokenDigest,
+               @Param("tokenId") String tokenId,
+               @Param("creationDate") Date creationDate,
+               @Param("expirationDate") Date expirationDate,
+               @Param("refreshTokenDigest") String refreshTokenDigest,
+               @Param("refreshExpirationDate") Date refreshExpirationDate);
+
+    @Query("select t.expirationDate from tokens t where t.tokenId = :tokenId")
+    Optional<Date> findExpirationDateByTokenId(@Param("tokenId") String tokenId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from tokens t where t.user = :user")
+    int deleteByUser(@Param("user") UserEntity user);
+
+    @Modifying
+    @Transactional
+    @Query("delete from tokens t where t.tokenId = :tokenId")
+    int deleteByTokenId(@Param("tokenId") String tokenId);
+
+    @Query("select t.id from tokens t " +
+            "where t.refreshExpirationDate < :now " +
+            "or (t.refreshExpirationDate is null and t.expirationDate < :now)")
+    List<Long> findExpiredTokenIds(@Param("now") Date now, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("delete from tokens t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,8 +1,13 @@
 package org.studentmanagement.data.repositories;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.studentmanagement.data.entities.UserEntity;
+import org.studentmanagement.data.viewModels.UserViewModel;
 
 import java.util.Optional;
 
@@ -10,4 +15,24 @@ import java.util.Optional;
 public interface UserRepository extends CrudRepository<UserEntity, Long> {
     Boolean existsByEmail(String email);
     Optional<UserEntity> findUserEntityByEmail(String email);
+
+    @Query("select new org.studentmanagement.data.viewModels.UserViewModel(u.firstName, u.lastName) " +
+            "from UserEntity u where u.id = :id")
+    Optional<UserViewModel> findViewById(@Param("id") Long id);
+
+    @Query("select u.tokenEpoch from UserEntity u where u.id = :id")
+    Optional<Long> findTokenEpochById(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("update UserEntity u set u.password = :newPassword " +
+            "where u.email = :email and u.password = :oldPassword")
+    int updatePassword(@Param("email") String email,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
+    @Modifying
+    @Transactional
+    @Query("update UserEntity u set u.tokenEpoch = u.tokenEpoch + 1 where u.id = :id")
+    void incrementTokenEpoch(@Param("id") Long id);
 }
@@ -0,0 +1,17 @@
+package org.studentmanagement.data.viewModels;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ClassPageViewModel {
+    private ClassViewModel[] classes;
+    private String nextCursor;
+}
@@ -16,5 +16,5 @@ public class ClassViewModel {
     private String title;
     private String description;
     private UserViewModel teacher;
-    private UserViewModel[] students;
+    private Long studentCount;
 }
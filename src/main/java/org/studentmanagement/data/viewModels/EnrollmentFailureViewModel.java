@@ -0,0 +1,17 @@
+package org.studentmanagement.data.viewModels;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class EnrollmentFailureViewModel {
+    private Long studentId;
+    private String reason;
+}
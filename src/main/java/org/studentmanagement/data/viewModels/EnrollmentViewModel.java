@@ -0,0 +1,18 @@
+package org.studentmanagement.data.viewModels;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EnrollmentViewModel {
+    private Long classId;
+    private Long[] enrolledStudentIds;
+    private EnrollmentFailureViewModel[] failures;
+}
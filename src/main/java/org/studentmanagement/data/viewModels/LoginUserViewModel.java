@@ -10,4 +10,6 @@ import java.util.Date;
 public class LoginUserViewModel extends UserViewModel {
     private String token;
     private Date expirationDate;
+    private String refreshToken;
+    private Date refreshExpirationDate;
 }
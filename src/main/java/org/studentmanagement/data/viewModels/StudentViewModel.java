@@ -0,0 +1,18 @@
+package org.studentmanagement.data.viewModels;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class StudentViewModel {
+    private Long id;
+    private String firstName;
+    private String lastName;
+}
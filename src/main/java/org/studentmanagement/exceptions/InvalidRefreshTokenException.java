@@ -0,0 +1,8 @@
+package org.studentmanagement.exceptions;
+
+import lombok.experimental.StandardException;
+
+@StandardException
+public class InvalidRefreshTokenException extends Exception {
+    public InvalidRefreshTokenException() { super(); }
+}
@@ -0,0 +1,8 @@
+package org.studentmanagement.exceptions;
+
+import lombok.experimental.StandardException;
+
+@StandardException
+public class PasswordHashingRejectedException extends RuntimeException {
+    public static final String RETRY_AFTER_SECONDS = "1";
+}
@@ -0,0 +1,9 @@
+package org.studentmanagement.exceptions;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+public class PasswordHashingUnavailableException extends AuthenticationServiceException {
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,42 @@
+package org.studentmanagement.integration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.studentmanagement.services.ClassExportService;
+import org.studentmanagement.services.JwtTokenService;
+
+@Controller
+@RequestMapping("/admin")
+public class AdminController {
+    private final JwtTokenService jwtTokenService;
+    private final ClassExportService classExportService;
+
+    @Autowired
+    public AdminController(JwtTokenService jwtTokenService, ClassExportService classExportService) {
+        this.jwtTokenService = jwtTokenService;
+        this.classExportService = classExportService;
+    }
+
+    @PostMapping("/jwt/reload")
+    public ResponseEntity<Void> reloadJwtKeys() {
+        jwtTokenService.reloadKeys();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @GetMapping(value = "/export/classes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportClasses() {
+        StreamingResponseBody export = classExportService::exportClasses;
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(export);
+    }
+}
@@ -6,14 +6,17 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.studentmanagement.data.bindingModels.AddClassBindingModel;
 import org.studentmanagement.data.bindingModels.AddStudentBindingModel;
+import org.studentmanagement.data.bindingModels.AddStudentsBindingModel;
+import org.studentmanagement.data.viewModels.ClassPageViewModel;
 import org.studentmanagement.data.viewModels.ClassViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentViewModel;
+import org.studentmanagement.data.viewModels.StudentPageViewModel;
 import org.studentmanagement.exceptions.EntityNotFoundException;
 import org.studentmanagement.exceptions.FieldConstraintViolationException;
 import org.studentmanagement.exceptions.RoleRequirementViolationException;
 import org.studentmanagement.services.ClassService;
 
 import java.security.Principal;
-import java.util.List;
 
 @Controller
 @RequestMapping("/class")
@@ -32,8 +35,11 @@ public class ClassController {
     }
 
     @GetMapping()
-    public ResponseEntity<List<ClassViewModel>> getUserClasses(Principal principal) throws EntityNotFoundException {
-        List<ClassViewModel> userClasses = classService.getUserClasses(principal);
+    public ResponseEntity<ClassPageViewModel> getUserClasses(Principal principal,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(required = false) Integer size)
+            throws EntityNotFoundException, FieldConstraintViolationException {
+        ClassPageViewModel userClasses = classService.getUserClasses(principal, after, size);
         return new ResponseEntity<>(userClasses, HttpStatus.OK);
     }
 
@@ -43,6 +49,16 @@ public class ClassController {
         return new ResponseEntity<>(classViewModel, HttpStatus.OK);
     }
 
+    @GetMapping("/{classId}/students")
+    public ResponseEntity<StudentPageViewModel> getClassStudents(@PathVariable Long classId,
+                                                                 @RequestParam(required = false) String after,
+                                                                 @RequestParam(required = false) Integer size,
+                                                                 @RequestParam(required = false) String sort)
+            throws EntityNotFoundException, FieldConstraintViolationException {
+        StudentPageViewModel students = classService.getClassStudents(classId, after, size, sort);
+        return new ResponseEntity<>(students, HttpStatus.OK);
+    }
+
     @PatchMapping("/{classId}")
     public ResponseEntity<ClassViewModel> setTeacherToClass(@PathVariable Long classId,
                                                             @RequestBody AddClassBindingModel classBindingModel)
@@ -58,4 +74,12 @@ public class ClassController {
         ClassViewModel classViewModel = classService.addStudent(classId, studentModel);
         return new ResponseEntity<>(classViewModel, HttpStatus.OK);
     }
+
+    @PostMapping("/{classId}/students")
+    public ResponseEntity<EnrollmentViewModel> addStudentsToClass(@PathVariable Long classId,
+                                                                  @RequestBody AddStudentsBindingModel studentsModel)
+            throws EntityNotFoundException {
+        EnrollmentViewModel enrollmentViewModel = classService.enrollStudents(classId, studentsModel);
+        return new ResponseEntity<>(enrollmentViewModel, HttpStatus.OK);
+    }
 }
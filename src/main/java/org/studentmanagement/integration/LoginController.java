@@ -1,5 +1,6 @@
 package org.studentmanagement.integration;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -7,9 +8,14 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.studentmanagement.data.bindingModels.LoginBindingModel;
+import org.studentmanagement.data.bindingModels.RefreshTokenBindingModel;
 import org.studentmanagement.data.viewModels.LoginUserViewModel;
 import org.studentmanagement.exceptions.EntityNotFoundException;
+import org.studentmanagement.exceptions.InvalidRefreshTokenException;
 import org.studentmanagement.services.UserService;
+import org.studentmanagement.utilities.RequestHelper;
+
+import java.security.Principal;
 
 @Controller
 public class LoginController {
@@ -26,4 +32,23 @@ public class LoginController {
         LoginUserViewModel model = userService.login(loginBindingModel);
         return new ResponseEntity<>(model, HttpStatus.OK);
     }
+
+    @PostMapping("/login/refresh")
+    public ResponseEntity<LoginUserViewModel> refresh(@RequestBody RefreshTokenBindingModel refreshTokenBindingModel)
+            throws InvalidRefreshTokenException {
+        LoginUserViewModel model = userService.refresh(refreshTokenBindingModel);
+        return new ResponseEntity<>(model, HttpStatus.OK);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        userService.logout(RequestHelper.extractTokenFromRequest(request));
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @PostMapping("/logout/all")
+    public ResponseEntity<Void> logoutEverywhere(Principal principal) throws EntityNotFoundException {
+        userService.logoutEverywhere(principal.getName());
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
 }
@@ -1,13 +1,21 @@
 package org.studentmanagement.providers;
 
 import org.springframework.stereotype.Component;
+import org.studentmanagement.data.models.SigningKeyModel;
 
-import javax.crypto.SecretKey;
-import java.security.Key;
+import java.time.Duration;
+import java.util.Optional;
 
 @Component
 public interface JwtDataProvider {
     Long getExpiration();
-    SecretKey getSecretKey();
-    Key getKey();
+    Long getRefreshExpiration();
+    SigningKeyModel getSigningKey();
+    Optional<SigningKeyModel> getVerificationKey(String keyId);
+    Long getTokenCacheSize();
+    Integer getMaxSessions();
+    Boolean isStateless();
+    Integer getReaperBatchSize();
+    Duration getReaperPause();
+    void reload();
 }
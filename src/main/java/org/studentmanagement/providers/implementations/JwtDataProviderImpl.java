@@ -2,36 +2,195 @@ package org.studentmanagement.providers.implementations;
 
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.studentmanagement.data.models.SigningKeyModel;
 import org.studentmanagement.providers.JwtDataProvider;
+import org.studentmanagement.providers.TimeProvider;
 
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.Key;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 
 @Component
 public class JwtDataProviderImpl implements JwtDataProvider {
+    private static final String KEY_ID_ALGORITHM = "HmacSHA256";
+    private static final String KEY_ID_LABEL = "kid";
+    private static final int KEY_ID_LENGTH = 16;
+    private static final String SECRET = "key";
+    private static final String KEY_ID = "id";
+    private static final String PREVIOUS_SECRET = "previous";
+    private static final String PREVIOUS_KEY_ID = "previous.id";
+
     private final Environment environment;
+    private final TimeProvider timeProvider;
+    private final Boolean stateless;
+    private volatile KeyMaterial keyMaterial;
 
-    public JwtDataProviderImpl(Environment environment) {
+    @Autowired
+    public JwtDataProviderImpl(Environment environment, TimeProvider timeProvider) {
         this.environment = environment;
+        this.timeProvider = timeProvider;
+        this.stateless = environment.getProperty("app.jwt.stateless", Boolean.class, false);
+        reload();
     }
 
     @Override
     public Long getExpiration() {
-        return Long.valueOf(environment.getProperty("app.jwt.expiration"));
+        return keyMaterial.expiration();
+    }
+
+    @Override
+    public Long getRefreshExpiration() {
+        return environment.getProperty("app.jwt.refresh.expiration", Long.class, 10080L);
+    }
+
+    @Override
+    public SigningKeyModel getSigningKey() {
+        return keyMaterial.activeKey();
+    }
+
+    @Override
+    public Optional<SigningKeyModel> getVerificationKey(String keyId) {
+        KeyMaterial material = keyMaterial;
+
+        if (keyId == null) {
+            return Optional.of(material.activeKey());
+        }
+
+        SigningKeyModel key = material.keyRing().get(keyId);
+
+        if (key == null || !key.isUsableAt(timeProvider.getCurrentTime())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(key);
+    }
+
+    @Override
+    public Long getTokenCacheSize() {
+        return environment.getProperty("app.jwt.cache.size", Long.class, 10000L);
+    }
+
+    @Override
+    public Integer getMaxSessions() {
+        return environment.getProperty("app.jwt.max-sessions", Integer.class, 5);
+    }
+
+    @Override
+    public Boolean isStateless() {
+        return stateless;
     }
 
     @Override
-    public SecretKey getSecretKey() {
-        String secret = environment.getProperty("app.jwt.key");
-        String algorithm = environment.getProperty("app.jwt.key.algorithm");
-        return new SecretKeySpec(Decoders.BASE64.decode(secret), algorithm);
+    public Integer getReaperBatchSize() {
+        return environment.getProperty("app.jwt.reaper.batch-size", Integer.class, 500);
     }
 
     @Override
-    public Key getKey() {
-        return Keys.hmacShaKeyFor(getSecretKey().getEncoded());
+    public Duration getReaperPause() {
+        return environment.getProperty("app.jwt.reaper.pause", Duration.class, Duration.ofMillis(100));
+    }
+
+    @Override
+    public synchronized void reload() {
+        Long expiration = Long.valueOf(environment.getRequiredProperty("app.jwt.expiration"));
+        Instant currentTime = timeProvider.getCurrentTime();
+        Instant retirementTime = currentTime.plus(expiration, ChronoUnit.MINUTES);
+        KeyMaterial previous = keyMaterial;
+        Properties keySource = loadKeySource();
+
+        SigningKeyModel activeKey = createKey(
+                keySource.getProperty(SECRET),
+                keySource.getProperty(KEY_ID),
+                null);
+        Map<String, SigningKeyModel> keyRing = new HashMap<>();
+
+        if (previous != null) {
+            previous.keyRing().values().stream()
+                    .filter(key -> key.isUsableAt(currentTime))
+                    .forEach(key -> keyRing.put(key.getKeyId(), key));
+
+            SigningKeyModel previousActiveKey = previous.activeKey();
+            keyRing.put(
+                    previousActiveKey.getKeyId(),
+                    new SigningKeyModel(previousActiveKey.getKeyId(), previousActiveKey.getKey(), retirementTime));
+        }
+
+        String previousSecret = keySource.getProperty(PREVIOUS_SECRET);
+
+        if (StringUtils.hasText(previousSecret)) {
+            SigningKeyModel previousKey = createKey(
+                    previousSecret,
+                    keySource.getProperty(PREVIOUS_KEY_ID),
+                    retirementTime);
+            keyRing.putIfAbsent(previousKey.getKeyId(), previousKey);
+        }
+
+        keyRing.put(activeKey.getKeyId(), activeKey);
+        keyMaterial = new KeyMaterial(activeKey, Map.copyOf(keyRing), expiration);
+    }
+
+    private Properties loadKeySource() {
+        String keyFile = environment.getProperty("app.jwt.key.file");
+        Properties keySource = new Properties();
+
+        if (StringUtils.hasText(keyFile)) {
+            try (Reader reader = Files.newBufferedReader(Path.of(keyFile), StandardCharsets.UTF_8)) {
+                keySource.load(reader);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read JWT key file " + keyFile, e);
+            }
+        } else {
+            keySource.setProperty(SECRET, environment.getProperty("app.jwt.key", ""));
+            keySource.setProperty(KEY_ID, environment.getProperty("app.jwt.key.id", ""));
+            keySource.setProperty(PREVIOUS_SECRET, environment.getProperty("app.jwt.key.previous", ""));
+            keySource.setProperty(PREVIOUS_KEY_ID, environment.getProperty("app.jwt.key.previous.id", ""));
+        }
+
+        if (!StringUtils.hasText(keySource.getProperty(SECRET))) {
+            throw new IllegalStateException("No JWT signing key configured");
+        }
+
+        return keySource;
+    }
+
+    private SigningKeyModel createKey(String secret, String configuredKeyId, Instant retirementTime) {
+        byte[] keyBytes = Decoders.BASE64.decode(secret);
+        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+        String keyId = StringUtils.hasText(configuredKeyId) ? configuredKeyId : deriveKeyId(keyBytes);
+
+        return new SigningKeyModel(keyId, key, retirementTime);
+    }
+
+    private String deriveKeyId(byte[] keyBytes) {
+        try {
+            Mac mac = Mac.getInstance(KEY_ID_ALGORITHM);
+            mac.init(new SecretKeySpec(keyBytes, KEY_ID_ALGORITHM));
+            byte[] keyId = mac.doFinal(KEY_ID_LABEL.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(keyId).substring(0, KEY_ID_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record KeyMaterial(SigningKeyModel activeKey, Map<String, SigningKeyModel> keyRing, Long expiration) {
     }
 }
@@ -7,28 +7,43 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.studentmanagement.data.models.TokenVerificationModel;
+import org.studentmanagement.data.models.VerifiedTokenModel;
+import org.studentmanagement.providers.JwtDataProvider;
 import org.studentmanagement.services.JwtTokenService;
+import org.studentmanagement.services.TokenCacheService;
 import org.studentmanagement.utilities.RequestHelper;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class AuthenticationFilter extends OncePerRequestFilter {
     private final UserDetailsService userDetailsService;
     private final JwtTokenService jwtTokenService;
+    private final TokenCacheService tokenCacheService;
+    private final JwtDataProvider jwtDataProvider;
 
     @Autowired
     public AuthenticationFilter(UserDetailsService userDetailsService,
-                                JwtTokenService jwtTokenService) {
+                                JwtTokenService jwtTokenService,
+                                TokenCacheService tokenCacheService,
+                                JwtDataProvider jwtDataProvider) {
         this.userDetailsService = userDetailsService;
         this.jwtTokenService = jwtTokenService;
+        this.tokenCacheService = tokenCacheService;
+        this.jwtDataProvider = jwtDataProvider;
     }
 
     @Override
@@ -38,21 +53,63 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         String token = RequestHelper.extractTokenFromRequest(request);
 
-        if(StringUtils.hasText(token) && jwtTokenService.validateToken(token)){
-            String email = jwtTokenService.getEmailFromToken(token);
+        if (StringUtils.hasText(token)) {
+            Optional<VerifiedTokenModel> verifiedToken = tokenCacheService.getVerifiedToken(token);
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (verifiedToken.isPresent() && jwtTokenService.isRevoked(verifiedToken.get())) {
+                tokenCacheService.evictToken(token);
+                verifiedToken = Optional.empty();
+            }
 
-            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-            );
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (verifiedToken.isEmpty()) {
+                verifiedToken = verifyToken(token);
+            }
 
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            verifiedToken.ifPresent(model -> authenticate(request, model));
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private Optional<VerifiedTokenModel> verifyToken(String token) {
+        TokenVerificationModel verification = jwtTokenService.verifyToken(token);
+
+        if (!verification.isValid()) {
+            return Optional.empty();
+        }
+
+        VerifiedTokenModel verifiedToken = new VerifiedTokenModel(
+                verification.getTokenId(),
+                verification.getSubject(),
+                verification.getUserId(),
+                verification.getEpoch(),
+                getAuthorities(verification),
+                verification.getExpirationTime()
+        );
+        tokenCacheService.putVerifiedToken(token, verifiedToken);
+
+        return Optional.of(verifiedToken);
+    }
+
+    private List<GrantedAuthority> getAuthorities(TokenVerificationModel verification) {
+        if (jwtDataProvider.isStateless() && verification.getRole() != null) {
+            return List.of(new SimpleGrantedAuthority(verification.getRole().name()));
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(verification.getSubject());
+        return List.copyOf(userDetails.getAuthorities());
+    }
+
+    private void authenticate(HttpServletRequest request, VerifiedTokenModel verifiedToken) {
+        UserDetails principal = new User(verifiedToken.getSubject(), "", verifiedToken.getAuthorities());
+
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                principal.getAuthorities()
+        );
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
 }
@@ -0,0 +1,73 @@
+package org.studentmanagement.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.studentmanagement.exceptions.PasswordHashingRejectedException;
+import org.studentmanagement.exceptions.PasswordHashingUnavailableException;
+import org.studentmanagement.services.CredentialCacheService;
+
+import java.util.Optional;
+
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+    private final AuthenticationProvider delegate;
+    private final CredentialCacheService credentialCacheService;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate,
+                                         CredentialCacheService credentialCacheService) {
+        this.delegate = delegate;
+        this.credentialCacheService = credentialCacheService;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+
+        if (username == null || !(authentication.getCredentials() instanceof String password)) {
+            return authenticateWithDelegate(authentication);
+        }
+
+        Optional<UserDetails> cachedUser = credentialCacheService.getAuthenticatedUser(username, password);
+
+        if (cachedUser.isPresent()) {
+            return createAuthentication(cachedUser.get(), authentication);
+        }
+
+        Authentication result = authenticateWithDelegate(authentication);
+
+        if (result != null && result.isAuthenticated() && result.getPrincipal() instanceof UserDetails user) {
+            UserDetails snapshot = new User(user.getUsername(), "", user.getAuthorities());
+            credentialCacheService.putAuthenticatedUser(username, password, snapshot);
+        }
+
+        return result;
+    }
+
+    private Authentication authenticateWithDelegate(Authentication authentication) {
+        try {
+            return delegate.authenticate(authentication);
+        } catch (PasswordHashingRejectedException e) {
+            throw new PasswordHashingUnavailableException(e.getMessage(), e);
+        }
+    }
+
+    private Authentication createAuthentication(UserDetails user, Authentication authentication) {
+        UserDetails principal = new User(user.getUsername(), "", user.getAuthorities());
+        UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                principal,
+                null,
+                principal.getAuthorities()
+        );
+        result.setDetails(authentication.getDetails());
+
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -3,9 +3,12 @@ package org.studentmanagement.security;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
+import org.studentmanagement.exceptions.PasswordHashingRejectedException;
+import org.studentmanagement.exceptions.PasswordHashingUnavailableException;
 
 import java.io.IOException;
 
@@ -15,6 +18,12 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
+        if (authException instanceof PasswordHashingUnavailableException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, PasswordHashingRejectedException.RETRY_AFTER_SECONDS);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
         response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
     }
 }
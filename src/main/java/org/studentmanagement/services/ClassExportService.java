@@ -0,0 +1,11 @@
+package org.studentmanagement.services;
+
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+public interface ClassExportService {
+    void exportClasses(OutputStream outputStream) throws IOException;
+}
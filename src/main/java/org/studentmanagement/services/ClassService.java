@@ -3,24 +3,31 @@ package org.studentmanagement.services;
 import org.springframework.stereotype.Service;
 import org.studentmanagement.data.bindingModels.AddClassBindingModel;
 import org.studentmanagement.data.bindingModels.AddStudentBindingModel;
+import org.studentmanagement.data.bindingModels.AddStudentsBindingModel;
+import org.studentmanagement.data.viewModels.ClassPageViewModel;
 import org.studentmanagement.data.viewModels.ClassViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentViewModel;
+import org.studentmanagement.data.viewModels.StudentPageViewModel;
 import org.studentmanagement.exceptions.EntityNotFoundException;
 import org.studentmanagement.exceptions.FieldConstraintViolationException;
 import org.studentmanagement.exceptions.RoleRequirementViolationException;
 
 import java.security.Principal;
-import java.util.List;
 
 @Service
 public interface ClassService {
     ClassViewModel addClass(AddClassBindingModel classBindingModel)
             throws FieldConstraintViolationException;
-    List<ClassViewModel> getUserClasses(Principal principal)
-            throws EntityNotFoundException;
+    ClassPageViewModel getUserClasses(Principal principal, String after, Integer size)
+            throws EntityNotFoundException, FieldConstraintViolationException;
     ClassViewModel getClass(Long id)
             throws EntityNotFoundException;
+    StudentPageViewModel getClassStudents(Long classId, String after, Integer size, String sort)
+            throws EntityNotFoundException, FieldConstraintViolationException;
     ClassViewModel updateClass(Long classId, AddClassBindingModel classBindingModel)
             throws EntityNotFoundException, RoleRequirementViolationException;
     ClassViewModel addStudent(Long classId, AddStudentBindingModel studentBindingModel)
             throws EntityNotFoundException, RoleRequirementViolationException;
+    EnrollmentViewModel enrollStudents(Long classId, AddStudentsBindingModel studentsBindingModel)
+            throws EntityNotFoundException;
 }
@@ -0,0 +1,13 @@
+package org.studentmanagement.services;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public interface CredentialCacheService {
+    Optional<UserDetails> getAuthenticatedUser(String username, String password);
+    void putAuthenticatedUser(String username, String password, UserDetails user);
+    void evictUser(String username);
+}
@@ -3,11 +3,17 @@ package org.studentmanagement.services;
 import org.springframework.stereotype.Service;
 import org.studentmanagement.data.entities.TokenEntity;
 import org.studentmanagement.data.entities.UserEntity;
+import org.studentmanagement.data.models.TokenVerificationModel;
+import org.studentmanagement.data.models.VerifiedTokenModel;
+import org.studentmanagement.exceptions.InvalidRefreshTokenException;
 
 @Service
 public interface JwtTokenService {
     TokenEntity generateToken(UserEntity user);
-    Boolean validateToken(String token);
-    String getEmailFromToken(String token);
-    void invalidateToken(String token);
+    TokenEntity refreshToken(String refreshToken) throws InvalidRefreshTokenException;
+    TokenVerificationModel verifyToken(String token);
+    boolean isRevoked(VerifiedTokenModel verifiedToken);
+    void revokeToken(String token);
+    void revokeAllTokens(UserEntity user);
+    void reloadKeys();
 }
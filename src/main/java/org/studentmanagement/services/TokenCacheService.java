@@ -0,0 +1,15 @@
+package org.studentmanagement.services;
+
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.models.VerifiedTokenModel;
+
+import java.util.Optional;
+
+@Service
+public interface TokenCacheService {
+    Optional<VerifiedTokenModel> getVerifiedToken(String token);
+    void putVerifiedToken(String token, VerifiedTokenModel verifiedToken);
+    void evictToken(String token);
+    void evictUserTokens(String email);
+    void evictAll();
+}
@@ -0,0 +1,11 @@
+package org.studentmanagement.services;
+
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+@Service
+public interface TokenDenylistService {
+    void revoke(String tokenId, Instant expirationTime);
+    boolean isRevoked(String tokenId);
+}
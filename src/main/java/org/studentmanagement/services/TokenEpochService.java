@@ -0,0 +1,9 @@
+package org.studentmanagement.services;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TokenEpochService {
+    Long getEpoch(Long userId);
+    void incrementEpoch(Long userId);
+}
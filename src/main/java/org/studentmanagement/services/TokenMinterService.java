@@ -0,0 +1,9 @@
+package org.studentmanagement.services;
+
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.models.TokenClaimsModel;
+
+@Service
+public interface TokenMinterService {
+    String mint(TokenClaimsModel claims);
+}
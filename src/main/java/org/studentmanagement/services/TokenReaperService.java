@@ -0,0 +1,8 @@
+package org.studentmanagement.services;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TokenReaperService {
+    void reapExpiredTokens();
+}
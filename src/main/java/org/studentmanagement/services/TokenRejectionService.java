@@ -0,0 +1,14 @@
+package org.studentmanagement.services;
+
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.enums.TokenStatusEnum;
+
+import java.util.Optional;
+
+@Service
+public interface TokenRejectionService {
+    Optional<TokenStatusEnum> getRejection(String token);
+    void reject(String token, TokenStatusEnum status);
+    void recordRejection(TokenStatusEnum status);
+    void evictAll();
+}
@@ -0,0 +1,126 @@
+package org.studentmanagement.services.implementations;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.studentmanagement.services.ClassExportService;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@Service
+public class ClassExportServiceImpl implements ClassExportService {
+    private static final String EXPORT_QUERY = "select c.id as class_id, c.title, c.description, c.teacher_id, " +
+            "cs.students_id as student_id " +
+            "from classes c left join classes_students cs on cs.class_entity_id = c.id " +
+            "order by c.id, cs.students_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ClassExportServiceImpl(DataSource dataSource, ObjectMapper objectMapper, Environment environment) {
+        this(
+                createJdbcTemplate(dataSource, environment.getProperty("app.export.fetch-size", Integer.class, 500)),
+                objectMapper
+        );
+    }
+
+    public ClassExportServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportClasses(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            jdbcTemplate.query(EXPORT_QUERY, new ExportWriter(generator));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static JdbcTemplate createJdbcTemplate(DataSource dataSource, int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+
+        return jdbcTemplate;
+    }
+
+    private static class ExportWriter implements RowCallbackHandler {
+        private final JsonGenerator generator;
+        private Long currentClassId;
+
+        ExportWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            long classId = resultSet.getLong("class_id");
+
+            try {
+                if (currentClassId == null || currentClassId != classId) {
+                    writeClass(classId, resultSet);
+                }
+
+                long studentId = resultSet.getLong("student_id");
+
+                if (!resultSet.wasNull()) {
+                    writeEnrollment(classId, studentId);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeClass(long classId, ResultSet resultSet) throws SQLException, IOException {
+            boolean firstClass = currentClassId == null;
+            currentClassId = classId;
+
+            generator.writeStartObject();
+            generator.writeStringField("type", "class");
+            generator.writeNumberField("id", classId);
+            generator.writeStringField("title", resultSet.getString("title"));
+            generator.writeStringField("description", resultSet.getString("description"));
+            generator.writeFieldName("teacherId");
+
+            long teacherId = resultSet.getLong("teacher_id");
+
+            if (resultSet.wasNull()) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(teacherId);
+            }
+
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (firstClass) {
+                generator.flush();
+            }
+        }
+
+        private void writeEnrollment(long classId, long studentId) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "enrollment");
+            generator.writeNumberField("classId", classId);
+            generator.writeNumberField("studentId", studentId);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+}
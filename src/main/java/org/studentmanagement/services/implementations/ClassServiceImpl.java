@@ -6,27 +6,50 @@ import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.studentmanagement.data.bindingModels.AddClassBindingModel;
 import org.studentmanagement.data.bindingModels.AddStudentBindingModel;
+import org.studentmanagement.data.bindingModels.AddStudentsBindingModel;
 import org.studentmanagement.data.entities.ClassEntity;
 import org.studentmanagement.data.entities.UserEntity;
 import org.studentmanagement.data.enums.RoleEnum;
+import org.studentmanagement.data.enums.RosterSortEnum;
+import org.studentmanagement.data.models.ClassSummaryModel;
 import org.studentmanagement.data.repositories.ClassRepository;
+import org.studentmanagement.data.viewModels.ClassPageViewModel;
 import org.studentmanagement.data.viewModels.ClassViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentFailureViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentViewModel;
+import org.studentmanagement.data.viewModels.StudentPageViewModel;
+import org.studentmanagement.data.viewModels.StudentViewModel;
+import org.studentmanagement.data.viewModels.UserViewModel;
 import org.studentmanagement.exceptions.EntityNotFoundException;
 import org.studentmanagement.exceptions.FieldConstraintViolationException;
 import org.studentmanagement.exceptions.RoleRequirementViolationException;
 import org.studentmanagement.services.ClassService;
 import org.studentmanagement.services.UserService;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ClassServiceImpl implements ClassService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char CURSOR_SEPARATOR = '\u0000';
+
     private final ClassRepository classRepository;
     private final ModelMapper modelMapper;
     private final Validator validator;
@@ -51,24 +74,44 @@ public class ClassServiceImpl implements ClassService {
 
         if (violations.isEmpty()) {
             ClassEntity savedClass = classRepository.save(classEntity);
-            return modelMapper.map(savedClass, ClassViewModel.class);
+            return getSavedClass(savedClass);
         } else {
             throw new FieldConstraintViolationException(getViolationMessages(violations));
         }
     }
 
     @Override
-    public List<ClassViewModel> getUserClasses(Principal principal) throws EntityNotFoundException {
+    public ClassPageViewModel getUserClasses(Principal principal, String after, Integer size)
+            throws EntityNotFoundException, FieldConstraintViolationException {
+        long afterId = decodeIdCursor(after);
         UserEntity user = userService.getUserEntity(principal.getName());
-        List<ClassEntity> classes;
+        int pageSize = getPageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<ClassSummaryModel> classes;
 
         switch (user.getRole()) {
-            case TEACHER -> classes = classRepository.findAllByTeacher(user);
-            case STUDENT -> classes = classRepository.findAllByStudentsContains(user);
+            case TEACHER -> classes = classRepository.findSummariesByTeacherId(user.getId(), afterId, limit);
+            case STUDENT -> classes = classRepository.findSummariesByStudentId(user.getId(), afterId, limit);
             default -> classes = new ArrayList<>();
         }
 
-        return classes.stream().map(classEntity -> modelMapper.map(classEntity, ClassViewModel.class)).toList();
+        boolean hasNextPage = classes.size() > pageSize;
+        List<ClassSummaryModel> page = hasNextPage ? classes.subList(0, pageSize) : classes;
+
+        return new ClassPageViewModel(
+                page.stream()
+                        .map(this::mapClassViewModel)
+                        .toArray(ClassViewModel[]::new),
+                hasNextPage ? encodeCursor(String.valueOf(page.getLast().getId())) : null
+        );
+    }
+
+    private int getPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
     }
 
     private String[] getViolationMessages(Set<ConstraintViolation<ClassEntity>> violations) {
@@ -80,36 +123,194 @@ public class ClassServiceImpl implements ClassService {
 
     @Override
     public ClassViewModel getClass(Long id) throws EntityNotFoundException {
-        ClassEntity classEntity = getClassEntity(id);
-        return modelMapper.map(classEntity, ClassViewModel.class);
+        return classRepository
+                .findSummaryById(id)
+                .map(this::mapClassViewModel)
+                .orElseThrow(EntityNotFoundException::new);
+    }
+
+    private ClassViewModel getSavedClass(ClassEntity classEntity) {
+        return classRepository
+                .findSummaryById(classEntity.getId())
+                .map(this::mapClassViewModel)
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private ClassViewModel mapClassViewModel(ClassSummaryModel summary) {
+        UserViewModel teacher = summary.getTeacherId() == null
+                ? null
+                : new UserViewModel(summary.getTeacherFirstName(), summary.getTeacherLastName());
+
+        return ClassViewModel
+                .builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .description(summary.getDescription())
+                .teacher(teacher)
+                .studentCount(summary.getStudentCount())
+                .build();
+    }
+
+    @Override
+    public StudentPageViewModel getClassStudents(Long classId, String after, Integer size, String sort)
+            throws EntityNotFoundException, FieldConstraintViolationException {
+        if (!classRepository.existsById(classId)) {
+            throw new EntityNotFoundException();
+        }
+
+        RosterSortEnum rosterSort = getRosterSort(sort);
+        RosterCursor cursor = decodeRosterCursor(after, rosterSort);
+        int pageSize = getPageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<StudentViewModel> students = switch (rosterSort) {
+            case ID -> classRepository.findStudentsOrderById(classId, cursor.id(), limit);
+            case LAST_NAME -> classRepository
+                    .findStudentsOrderByLastName(classId, cursor.lastName(), cursor.id(), limit);
+        };
+
+        boolean hasNextPage = students.size() > pageSize;
+        List<StudentViewModel> page = hasNextPage ? students.subList(0, pageSize) : students;
+
+        return new StudentPageViewModel(
+                page.toArray(StudentViewModel[]::new),
+                hasNextPage ? encodeRosterCursor(page.getLast(), rosterSort) : null
+        );
+    }
+
+    private RosterSortEnum getRosterSort(String sort) throws FieldConstraintViolationException {
+        if (sort == null || sort.equalsIgnoreCase("id")) {
+            return RosterSortEnum.ID;
+        }
+
+        if (sort.equalsIgnoreCase("lastName") || sort.equalsIgnoreCase(RosterSortEnum.LAST_NAME.name())) {
+            return RosterSortEnum.LAST_NAME;
+        }
+
+        throw new FieldConstraintViolationException(new String[]{"Unsupported sort " + sort});
+    }
+
+    private String encodeRosterCursor(StudentViewModel student, RosterSortEnum rosterSort) {
+        return rosterSort == RosterSortEnum.LAST_NAME
+                ? encodeCursor(student.getLastName() + CURSOR_SEPARATOR + student.getId())
+                : encodeCursor(String.valueOf(student.getId()));
+    }
+
+    private RosterCursor decodeRosterCursor(String after, RosterSortEnum rosterSort)
+            throws FieldConstraintViolationException {
+        if (after == null || after.isEmpty() || rosterSort == RosterSortEnum.ID) {
+            return new RosterCursor("", decodeIdCursor(after));
+        }
+
+        String cursor = decodeCursor(after);
+        int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+
+        try {
+            return new RosterCursor(cursor.substring(0, separator), Long.parseLong(cursor.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw getInvalidCursorException();
+        }
+    }
+
+    private long decodeIdCursor(String after) throws FieldConstraintViolationException {
+        if (after == null || after.isEmpty()) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(decodeCursor(after));
+        } catch (NumberFormatException e) {
+            throw getInvalidCursorException();
+        }
+    }
+
+    private String encodeCursor(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String after) throws FieldConstraintViolationException {
+        try {
+            return new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw getInvalidCursorException();
+        }
+    }
+
+    private FieldConstraintViolationException getInvalidCursorException() {
+        return new FieldConstraintViolationException(new String[]{"Invalid cursor"});
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ClassViewModel updateClass(Long classId, AddClassBindingModel classBindingModel)
             throws EntityNotFoundException, RoleRequirementViolationException {
-        ClassEntity classEntity = getClassEntity(classId);
+        ClassEntity classEntity = classBindingModel.getStudentIds() == null
+                ? getClassEntity(classId)
+                : getClassDetail(classId);
 
         if (classBindingModel.getTeacherId() != null) {
             setTeacher(classEntity, classBindingModel.getTeacherId());
         }
 
         if (classBindingModel.getStudentIds() != null) {
-            clearStudentsOfClass(classEntity);
-
-            for (Long studentId : classBindingModel.getStudentIds()) {
-                addStudent(classEntity, studentId);
-            }
+            updateStudents(classEntity, getRequestedIds(classBindingModel.getStudentIds()));
         }
 
-        return modelMapper.map(classEntity, ClassViewModel.class);
+        return getSavedClass(classEntity);
     }
 
-    private void clearStudentsOfClass(ClassEntity classEntity) throws EntityNotFoundException {
-        classEntity.setStudents(new ArrayList<>());
+    private void updateStudents(ClassEntity classEntity, Set<Long> studentIds)
+            throws EntityNotFoundException, RoleRequirementViolationException {
+        Set<UserEntity> students = classEntity.getStudents();
+        Set<Long> currentIds = students
+                .stream()
+                .map(UserEntity::getId)
+                .collect(Collectors.toSet());
+        Set<Long> addedIds = studentIds
+                .stream()
+                .filter(studentId -> !currentIds.contains(studentId))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<UserEntity> addedStudents = getStudents(addedIds);
+        boolean hasRemovals = currentIds.stream().anyMatch(studentId -> !studentIds.contains(studentId));
+
+        if (!hasRemovals && addedStudents.isEmpty()) {
+            return;
+        }
+
+        students.removeIf(student -> !studentIds.contains(student.getId()));
+        addedStudents.forEach(classEntity::addStudent);
 
         classRepository.save(classEntity);
     }
 
+    private List<UserEntity> getStudents(Set<Long> studentIds)
+            throws EntityNotFoundException, RoleRequirementViolationException {
+        if (studentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, UserEntity> users = userService.getUserEntities(studentIds)
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        List<UserEntity> students = new ArrayList<>(studentIds.size());
+
+        for (Long studentId : studentIds) {
+            UserEntity user = users.get(studentId);
+
+            if (user == null) {
+                throw new EntityNotFoundException();
+            }
+
+            if (!user.getRole().equals(RoleEnum.STUDENT)) {
+                throw new RoleRequirementViolationException(getUserIsNotAStudentErrorText(studentId));
+            }
+
+            students.add(user);
+        }
+
+        return students;
+    }
+
     private void setTeacher(ClassEntity classEntity, Long teacherId)
             throws EntityNotFoundException, RoleRequirementViolationException {
         UserEntity user = userService.getUserEntity(teacherId);
@@ -126,7 +327,7 @@ public class ClassServiceImpl implements ClassService {
             throws EntityNotFoundException, RoleRequirementViolationException {
         ClassEntity classEntity = getClassEntity(classId);
         addStudent(classEntity, studentBindingModel.getStudentId());
-        return modelMapper.map(classEntity, ClassViewModel.class);
+        return getSavedClass(classEntity);
     }
 
     private void addStudent(ClassEntity classEntity, Long studentId)
@@ -134,13 +335,76 @@ public class ClassServiceImpl implements ClassService {
         UserEntity user = userService.getUserEntity(studentId);
 
         if (user.getRole().equals(RoleEnum.STUDENT)) {
-            classEntity.addStudent(user);
-            classRepository.save(classEntity);
+            if (!classRepository.existsByIdAndStudentsId(classEntity.getId(), studentId)) {
+                classEntity.addStudent(user);
+                classRepository.save(classEntity);
+            }
         } else {
             throw new RoleRequirementViolationException(getUserIsNotAStudentErrorText(studentId));
         }
     }
 
+    @Override
+    @Transactional
+    public EnrollmentViewModel enrollStudents(Long classId, AddStudentsBindingModel studentsBindingModel)
+            throws EntityNotFoundException {
+        ClassEntity classEntity = getClassDetail(classId);
+        Set<Long> studentIds = getRequestedIds(studentsBindingModel.getStudentIds());
+        Map<Long, UserEntity> users = userService.getUserEntities(studentIds)
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        Set<Long> enrolledIds = classEntity.getStudents()
+                .stream()
+                .map(UserEntity::getId)
+                .collect(Collectors.toSet());
+
+        List<Long> addedIds = new ArrayList<>();
+        List<EnrollmentFailureViewModel> failures = new ArrayList<>();
+
+        for (Long studentId : studentIds) {
+            UserEntity user = users.get(studentId);
+
+            if (user == null) {
+                failures.add(new EnrollmentFailureViewModel(studentId, getUserDoesNotExistErrorText(studentId)));
+            } else if (!user.getRole().equals(RoleEnum.STUDENT)) {
+                failures.add(new EnrollmentFailureViewModel(studentId, getUserIsNotAStudentErrorText(studentId)));
+            } else if (!enrolledIds.add(studentId)) {
+                failures.add(new EnrollmentFailureViewModel(studentId, getUserIsAlreadyEnrolledErrorText(studentId)));
+            } else {
+                classEntity.addStudent(user);
+                addedIds.add(studentId);
+            }
+        }
+
+        if (!addedIds.isEmpty()) {
+            classRepository.save(classEntity);
+        }
+
+        return new EnrollmentViewModel(
+                classId,
+                addedIds.toArray(Long[]::new),
+                failures.toArray(EnrollmentFailureViewModel[]::new)
+        );
+    }
+
+    private Set<Long> getRequestedIds(Long[] ids) {
+        if (ids == null) {
+            return new LinkedHashSet<>();
+        }
+
+        return Arrays.stream(ids)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private String getUserDoesNotExistErrorText(Long userId) {
+        return String.format("User with id %s does not exist", userId);
+    }
+
+    private String getUserIsAlreadyEnrolledErrorText(Long userId) {
+        return String.format("User with id %s is already enrolled", userId);
+    }
+
     private String getUserIsNotAStudentErrorText(Long userId) {
         return String.format("User with id %s is not a student", userId);
     }
@@ -148,4 +412,11 @@ public class ClassServiceImpl implements ClassService {
     private ClassEntity getClassEntity(Long id) throws EntityNotFoundException {
         return classRepository.findById(id).orElseThrow(EntityNotFoundException::new);
     }
+
+    private ClassEntity getClassDetail(Long id) throws EntityNotFoundException {
+        return classRepository.findDetailById(id).orElseThrow(EntityNotFoundException::new);
+    }
+
+    private record RosterCursor(String lastName, Long id) {
+    }
 }
@@ -0,0 +1,108 @@
+package org.studentmanagement.services.implementations;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.studentmanagement.services.CredentialCacheService;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Service
+public class CredentialCacheServiceImpl implements CredentialCacheService {
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+
+    private final SecretKeySpec digestKey;
+    private final ThreadLocal<Mac> mac;
+    private final Cache<String, UserDetails> authenticatedUsers;
+    private final ConcurrentMap<String, Set<String>> digestsByUsername;
+
+    @Autowired
+    public CredentialCacheServiceImpl(Environment environment) {
+        this(
+                environment.getProperty("app.security.basic-cache.size", Long.class, 10000L),
+                environment.getProperty("app.security.basic-cache.ttl", Duration.class, Duration.ofMinutes(1))
+        );
+    }
+
+    public CredentialCacheServiceImpl(long maximumSize, Duration timeToLive) {
+        byte[] keyBytes = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(keyBytes);
+
+        this.digestKey = new SecretKeySpec(keyBytes, MAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::createMac);
+        this.digestsByUsername = new ConcurrentHashMap<>();
+        this.authenticatedUsers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .build();
+    }
+
+    @Override
+    public Optional<UserDetails> getAuthenticatedUser(String username, String password) {
+        return Optional.ofNullable(authenticatedUsers.getIfPresent(digest(username, password)));
+    }
+
+    @Override
+    public void putAuthenticatedUser(String username, String password, UserDetails user) {
+        String digest = digest(username, password);
+
+        authenticatedUsers.put(digest, user);
+        digestsByUsername
+                .computeIfAbsent(user.getUsername(), name -> ConcurrentHashMap.newKeySet())
+                .add(digest);
+    }
+
+    @Override
+    public void evictUser(String username) {
+        Set<String> digests = digestsByUsername.remove(username);
+
+        if (digests != null) {
+            authenticatedUsers.invalidateAll(digests);
+        }
+    }
+
+    private void onRemoval(String digest, UserDetails user, RemovalCause cause) {
+        if (digest == null || user == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+
+        digestsByUsername.computeIfPresent(user.getUsername(), (username, digests) -> {
+            digests.remove(digest);
+            return digests.isEmpty() ? null : digests;
+        });
+    }
+
+    private String digest(String username, String password) {
+        byte[] hash = mac.get().doFinal((username + '\u0000' + password).getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private Mac createMac() {
+        try {
+            Mac instance = Mac.getInstance(MAC_ALGORITHM);
+            instance.init(digestKey);
+
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,134 +1,375 @@
 package org.studentmanagement.services.implementations;
 
-import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.studentmanagement.data.entities.TokenEntity;
 import org.studentmanagement.data.entities.UserEntity;
+import org.studentmanagement.data.enums.RoleEnum;
+import org.studentmanagement.data.enums.TokenStatusEnum;
+import org.studentmanagement.data.models.SigningKeyModel;
+import org.studentmanagement.data.models.TokenClaimsModel;
+import org.studentmanagement.data.models.TokenVerificationModel;
+import org.studentmanagement.data.models.VerifiedTokenModel;
 import org.studentmanagement.data.repositories.TokenRepository;
+import org.studentmanagement.exceptions.InvalidRefreshTokenException;
 import org.studentmanagement.providers.DateProvider;
 import org.studentmanagement.providers.JwtDataProvider;
 import org.studentmanagement.providers.TimeProvider;
 import org.studentmanagement.services.JwtTokenService;
+import org.studentmanagement.services.TokenCacheService;
+import org.studentmanagement.services.TokenDenylistService;
+import org.studentmanagement.services.TokenEpochService;
+import org.studentmanagement.services.TokenMinterService;
+import org.studentmanagement.services.TokenRejectionService;
+import org.studentmanagement.utilities.TokenDigestHelper;
+import org.studentmanagement.utilities.TokenStructureHelper;
 
+import java.security.Key;
+import java.security.SecureRandom;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtTokenServiceImpl implements JwtTokenService {
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final TokenRepository tokenRepository;
     private final JwtDataProvider jwtDataProvider;
-    private final JwtBuilder jwtBuilder;
+    private final TokenMinterService tokenMinterService;
     private final JwtParserBuilder jwtParserBuilder;
     private final TimeProvider timeProvider;
     private final DateProvider dateProvider;
+    private final TokenCacheService tokenCacheService;
+    private final TokenDenylistService tokenDenylistService;
+    private final TokenEpochService tokenEpochService;
+    private final TokenRejectionService tokenRejectionService;
+    private volatile JwtParser jwtParser;
 
     @Autowired
     public JwtTokenServiceImpl(TokenRepository tokenRepository,
                                JwtDataProvider jwtDataProvider,
+                               TokenMinterService tokenMinterService,
                                TimeProvider timeProvider,
-                               DateProvider dateProvider) {
-        this.tokenRepository = tokenRepository;
-        this.jwtDataProvider = jwtDataProvider;
-        this.timeProvider = timeProvider;
-        this.dateProvider = dateProvider;
-        this.jwtBuilder = Jwts.builder();
-        this.jwtParserBuilder = Jwts.parser();
+                               DateProvider dateProvider,
+                               TokenCacheService tokenCacheService,
+                               TokenDenylistService tokenDenylistService,
+                               TokenEpochService tokenEpochService,
+                               TokenRejectionService tokenRejectionService) {
+        this(
+                tokenRepository,
+                jwtDataProvider,
+                tokenMinterService,
+                Jwts.parser(),
+                timeProvider,
+                dateProvider,
+                tokenCacheService,
+                tokenDenylistService,
+                tokenEpochService,
+                tokenRejectionService
+        );
     }
 
     public JwtTokenServiceImpl(TokenRepository tokenRepository,
                                JwtDataProvider jwtDataProvider,
-                               JwtBuilder jwtBuilder,
+                               TokenMinterService tokenMinterService,
                                JwtParserBuilder jwtParserBuilder,
                                TimeProvider timeProvider,
-                               DateProvider dateProvider) {
+                               DateProvider dateProvider,
+                               TokenCacheService tokenCacheService,
+                               TokenDenylistService tokenDenylistService,
+                               TokenEpochService tokenEpochService,
+                               TokenRejectionService tokenRejectionService) {
         this.tokenRepository = tokenRepository;
         this.jwtDataProvider = jwtDataProvider;
-        this.jwtBuilder = jwtBuilder;
+        this.tokenMinterService = tokenMinterService;
         this.jwtParserBuilder = jwtParserBuilder;
         this.timeProvider = timeProvider;
         this.dateProvider = dateProvider;
+        this.tokenCacheService = tokenCacheService;
+        this.tokenDenylistService = tokenDenylistService;
+        this.tokenEpochService = tokenEpochService;
+        this.tokenRejectionService = tokenRejectionService;
     }
 
     @Override
     public TokenEntity generateToken(UserEntity user) {
-        deleteExistingToken(user);
+        evictOldestSessions(user);
+        TokenEntity tokenEntity = issueToken(new TokenEntity(), user);
+        tokenRepository.save(tokenEntity);
+
+        return tokenEntity;
+    }
+
+    private void evictOldestSessions(UserEntity user) {
+        long sessionCount = tokenRepository.countByUser(user);
+        int maxSessions = Math.max(jwtDataProvider.getMaxSessions(), 1);
 
+        if (sessionCount < maxSessions) {
+            return;
+        }
+
+        List<TokenEntity> oldestSessions = tokenRepository.findTokenEntitiesByUserOrderByCreationDateAsc(
+                user,
+                Limit.of((int) (sessionCount - maxSessions + 1)));
+
+        oldestSessions.forEach(this::revokeAccessToken);
+        tokenRepository.deleteByIdIn(oldestSessions.stream().map(TokenEntity::getId).toList());
+    }
+
+    private TokenEntity issueToken(TokenEntity tokenEntity, UserEntity user) {
         Instant currentTime = timeProvider.getCurrentTime();
         Instant expirationTime = currentTime.plus(jwtDataProvider.getExpiration(), ChronoUnit.MINUTES);
         Date issueDate = dateProvider.getDateFrom(currentTime);
         Date expirationDate = dateProvider.getDateFrom(expirationTime);
+        Instant refreshExpirationTime = currentTime.plus(jwtDataProvider.getRefreshExpiration(), ChronoUnit.MINUTES);
+        Date refreshExpirationDate = dateProvider.getDateFrom(refreshExpirationTime);
 
-        String token = jwtBuilder
-                .subject(user.getEmail())
-                .issuedAt(issueDate)
-                .expiration(expirationDate)
-                .signWith(jwtDataProvider.getKey())
-                .compact();
+        String tokenId = UUID.randomUUID().toString();
+        String token = tokenMinterService.mint(new TokenClaimsModel(
+                tokenId,
+                user.getEmail(),
+                user.getId(),
+                user.getRole().name(),
+                user.getTokenEpoch(),
+                currentTime,
+                expirationTime
+        ));
 
-        TokenEntity tokenEntity = new TokenEntity(
-                user,
-                token,
-                issueDate,
-                expirationDate
-        );
+        String refreshToken = generateRefreshToken();
 
-        tokenRepository.save(tokenEntity);
+        tokenEntity.setUser(user);
+        tokenEntity.setTokenId(tokenId);
+        tokenEntity.setToken(token);
+        tokenEntity.setCreationDate(issueDate);
+        tokenEntity.setExpirationDate(expirationDate);
+        tokenEntity.setRefreshToken(refreshToken);
+        tokenEntity.setRefreshTokenDigest(TokenDigestHelper.digest(refreshToken));
+        tokenEntity.setRefreshExpirationDate(refreshExpirationDate);
 
         return tokenEntity;
     }
 
-    private void deleteExistingToken(UserEntity user) {
-        Optional<TokenEntity> tokenEntity = tokenRepository.findTokenEntityByUser(user);
-        tokenEntity.ifPresent(tokenRepository::delete);
+    @Override
+    public TokenEntity refreshToken(String refreshToken) throws InvalidRefreshTokenException {
+        if (!StringUtils.hasText(refreshToken)) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        TokenEntity tokenEntity = tokenRepository
+                .findTokenEntityByRefreshTokenDigest(TokenDigestHelper.digest(refreshToken))
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        if (!tokenEntity.getRefreshExpirationDate().toInstant().isAfter(timeProvider.getCurrentTime())) {
+            tokenRepository.delete(tokenEntity);
+            throw new InvalidRefreshTokenException();
+        }
+
+        String previousRefreshTokenDigest = tokenEntity.getRefreshTokenDigest();
+        String previousTokenId = tokenEntity.getTokenId();
+        Date previousExpirationDate = tokenEntity.getExpirationDate();
+
+        issueToken(tokenEntity, tokenEntity.getUser());
+
+        int rotated = tokenRepository.rotate(
+                tokenEntity.getId(),
+                previousRefreshTokenDigest,
+                tokenEntity.getTokenId(),
+                tokenEntity.getCreationDate(),
+                tokenEntity.getExpirationDate(),
+                tokenEntity.getRefreshTokenDigest(),
+                tokenEntity.getRefreshExpirationDate());
+
+        if (rotated == 0) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        tokenDenylistService.revoke(previousTokenId, toInstant(previousExpirationDate));
+
+        return tokenEntity;
+    }
+
+    private String generateRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
     @Override
-    public Boolean validateToken(String token) {
+    public TokenVerificationModel verifyToken(String token) {
+        if (!TokenStructureHelper.isWellFormed(token)) {
+            tokenRejectionService.recordRejection(TokenStatusEnum.MALFORMED);
+            return TokenVerificationModel.rejected(TokenStatusEnum.MALFORMED);
+        }
+
+        Optional<TokenStatusEnum> cachedRejection = tokenRejectionService.getRejection(token);
+
+        if (cachedRejection.isPresent()) {
+            return TokenVerificationModel.rejected(cachedRejection.get());
+        }
+
+        TokenVerificationModel verification = verifySignedToken(token);
+
+        if (!verification.isValid()) {
+            tokenRejectionService.reject(token, verification.getStatus());
+        }
+
+        return verification;
+    }
+
+    private TokenVerificationModel verifySignedToken(String token) {
+        Claims claims;
+        RoleEnum role;
+
         try {
-            innerValidateToken(token);
-        } catch (RuntimeException e) {
-            invalidateToken(token);
+            claims = getJwtParser().parseSignedClaims(token).getPayload();
+            String roleName = claims.get(TokenClaimsModel.ROLE_CLAIM, String.class);
+            role = roleName == null ? null : RoleEnum.valueOf(roleName);
+        } catch (ExpiredJwtException e) {
+            return TokenVerificationModel.rejected(TokenStatusEnum.EXPIRED);
+        } catch (SignatureException e) {
+            return TokenVerificationModel.rejected(TokenStatusEnum.INVALID_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenVerificationModel.rejected(TokenStatusEnum.MALFORMED);
+        }
+
+        String tokenId = claims.getId();
+        Long userId = claims.get(TokenClaimsModel.USER_ID_CLAIM, Long.class);
+        Long epoch = claims.get(TokenClaimsModel.EPOCH_CLAIM, Long.class);
+
+        if (isRevoked(tokenId, userId, epoch)) {
+            return TokenVerificationModel.rejected(TokenStatusEnum.REVOKED);
+        }
+
+        String email = claims.getSubject();
+        Instant expirationTime;
+
+        if (jwtDataProvider.isStateless()) {
+            expirationTime = toInstant(claims.getExpiration());
+        } else {
+            Optional<Date> storedExpirationDate = tokenRepository.findExpirationDateByTokenId(tokenId);
+
+            if (storedExpirationDate.isEmpty()) {
+                return TokenVerificationModel.rejected(TokenStatusEnum.REVOKED);
+            }
+
+            Instant currentTime = timeProvider.getCurrentTime();
+            expirationTime = storedExpirationDate.get().toInstant();
+
+            if (expirationTime.isBefore(currentTime)) {
+                return TokenVerificationModel.rejected(TokenStatusEnum.EXPIRED);
+            }
+        }
+
+        return new TokenVerificationModel(
+                tokenId,
+                email,
+                userId,
+                epoch,
+                role,
+                toInstant(claims.getIssuedAt()),
+                expirationTime,
+                TokenStatusEnum.VALID
+        );
+    }
+
+    @Override
+    public boolean isRevoked(VerifiedTokenModel verifiedToken) {
+        return isRevoked(verifiedToken.getTokenId(), verifiedToken.getUserId(), verifiedToken.getEpoch());
+    }
+
+    private boolean isRevoked(String tokenId, Long userId, Long epoch) {
+        return tokenDenylistService.isRevoked(tokenId) || isFromPreviousEpoch(userId, epoch);
+    }
+
+    private boolean isFromPreviousEpoch(Long userId, Long epoch) {
+        if (userId == null || epoch == null) {
             return false;
         }
 
-        return true;
+        return !epoch.equals(tokenEpochService.getEpoch(userId));
     }
 
-    private void innerValidateToken(String token) {
-        String email = getSubject(token);
-        TokenEntity tokenEntity = tokenRepository
-                .findTokenEntityByTokenAndUserEmail(token, email)
-                .orElseThrow(IllegalArgumentException::new);
+    @Override
+    public void revokeToken(String token) {
+        tokenCacheService.evictToken(token);
+        getClaimsIncludingExpired(token)
+                .ifPresent(claims -> {
+                    tokenDenylistService.revoke(claims.getId(), toInstant(claims.getExpiration()));
+                    deleteTokenRow(claims.getId());
+                });
+    }
 
-        Instant currentTime = timeProvider.getCurrentTime();
+    private Optional<Claims> getClaimsIncludingExpired(String token) {
+        try {
+            return Optional.of(getJwtParser().parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            return Optional.ofNullable(e.getClaims());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 
-        if (tokenEntity.getExpirationDate().toInstant().isBefore(currentTime)) {
-            throw new IllegalArgumentException();
+    private void deleteTokenRow(String tokenId) {
+        if (tokenId != null) {
+            tokenRepository.deleteByTokenId(tokenId);
         }
     }
 
     @Override
-    public String getEmailFromToken(String token) {
-        return getSubject(token);
+    public void revokeAllTokens(UserEntity user) {
+        tokenEpochService.incrementEpoch(user.getId());
+        tokenRepository.deleteByUser(user);
+        tokenCacheService.evictUserTokens(user.getEmail());
+    }
+
+    private void revokeAccessToken(TokenEntity tokenEntity) {
+        tokenDenylistService.revoke(tokenEntity.getTokenId(), toInstant(tokenEntity.getExpirationDate()));
     }
 
     @Override
-    public void invalidateToken(String token) {
-        tokenRepository.findTokenEntityByToken(token)
-                .ifPresent(tokenRepository::delete);
-    }
-
-    private String getSubject(String token) {
-        return jwtParserBuilder
-                .verifyWith(jwtDataProvider.getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public void reloadKeys() {
+        jwtDataProvider.reload();
+        tokenCacheService.evictAll();
+        tokenRejectionService.evictAll();
+    }
+
+    private JwtParser getJwtParser() {
+        JwtParser current = jwtParser;
+
+        if (current == null) {
+            current = jwtParserBuilder.keyLocator(this::locateVerificationKey).build();
+            jwtParser = current;
+        }
+
+        return current;
+    }
+
+    private Key locateVerificationKey(Header header) {
+        String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+
+        return jwtDataProvider.getVerificationKey(keyId)
+                .map(SigningKeyModel::getKey)
+                .orElseThrow(() -> new SignatureException("Unknown signing key"));
+    }
+
+    private Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
     }
 }
@@ -0,0 +1,91 @@
+package org.studentmanagement.services.implementations;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.studentmanagement.services.SchemaUpgradeService;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Service
+public class SchemaUpgradeServiceImpl implements SchemaUpgradeService {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public SchemaUpgradeServiceImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Override
+    @PostConstruct
+    public void upgradeSchema() {
+        purgeTokensWithoutTokenId();
+        dropUniqueTokenUserConstraint();
+        addClassStudentsPrimaryKey();
+    }
+
+    private void purgeTokensWithoutTokenId() {
+        if (tableExists("tokens") && !columnExists("tokens", "token_id")) {
+            jdbcTemplate.update("delete from tokens");
+        }
+    }
+
+    private void dropUniqueTokenUserConstraint() {
+        List<String> constraints = jdbcTemplate.queryForList(
+                "select tc.constraint_name from information_schema.table_constraints tc " +
+                        "join information_schema.key_column_usage kcu " +
+                        "on kcu.constraint_name = tc.constraint_name and kcu.table_schema = tc.table_schema " +
+                        "where lower(tc.table_name) = 'tokens' and tc.constraint_type = 'UNIQUE' " +
+                        "and tc.table_schema = current_schema " +
+                        "group by tc.constraint_name " +
+                        "having count(*) = 1 and max(lower(kcu.column_name)) = 'user_id'",
+                String.class);
+
+        constraints.forEach(constraint -> jdbcTemplate.execute("alter table tokens drop constraint " + constraint));
+    }
+
+    private void addClassStudentsPrimaryKey() {
+        if (!tableExists("classes_students") || primaryKeyExists("classes_students")) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("create table classes_students_distinct as " +
+                    "select distinct class_entity_id, students_id from classes_students " +
+                    "where class_entity_id is not null and students_id is not null");
+            jdbcTemplate.update("delete from classes_students");
+            jdbcTemplate.update("insert into classes_students (class_entity_id, students_id) " +
+                    "select class_entity_id, students_id from classes_students_distinct");
+            jdbcTemplate.execute("drop table classes_students_distinct");
+            jdbcTemplate.execute("alter table classes_students add primary key (class_entity_id, students_id)");
+        });
+    }
+
+    private boolean primaryKeyExists(String table) {
+        return count("select count(*) from information_schema.table_constraints " +
+                "where lower(table_name) = ? and constraint_type = 'PRIMARY KEY' and table_schema = current_schema",
+                table) > 0;
+    }
+
+    private boolean tableExists(String table) {
+        return count("select count(*) from information_schema.tables " +
+                "where lower(table_name) = ? and table_schema = current_schema", table) > 0;
+    }
+
+    private boolean columnExists(String table, String column) {
+        return count("select count(*) from information_schema.columns " +
+                "where lower(table_name) = ? and lower(column_name) = ? and table_schema = current_schema",
+                table, column) > 0;
+    }
+
+    private long count(String query, Object... arguments) {
+        Long count = jdbcTemplate.queryForObject(query, Long.class, arguments);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,101 @@
+package org.studentmanagement.services.implementations;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.models.VerifiedTokenModel;
+import org.studentmanagement.providers.JwtDataProvider;
+import org.studentmanagement.providers.TimeProvider;
+import org.studentmanagement.services.TokenCacheService;
+import org.studentmanagement.utilities.InstantExpiry;
+import org.studentmanagement.utilities.TokenDigestHelper;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Service
+public class TokenCacheServiceImpl implements TokenCacheService {
+    private final Cache<String, VerifiedTokenModel> verifiedTokens;
+    private final ConcurrentMap<String, Set<String>> digestsBySubject;
+    private final TimeProvider timeProvider;
+
+    @Autowired
+    public TokenCacheServiceImpl(JwtDataProvider jwtDataProvider, TimeProvider timeProvider) {
+        this(jwtDataProvider.getTokenCacheSize(), timeProvider);
+    }
+
+    public TokenCacheServiceImpl(long maximumSize, TimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+        this.digestsBySubject = new ConcurrentHashMap<>();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new InstantExpiry<String, VerifiedTokenModel>(
+                        timeProvider,
+                        VerifiedTokenModel::getExpirationTime))
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .build();
+    }
+
+    @Override
+    public Optional<VerifiedTokenModel> getVerifiedToken(String token) {
+        String digest = TokenDigestHelper.digest(token);
+        VerifiedTokenModel verifiedToken = verifiedTokens.getIfPresent(digest);
+
+        if (verifiedToken == null) {
+            return Optional.empty();
+        }
+
+        if (!verifiedToken.getExpirationTime().isAfter(timeProvider.getCurrentTime())) {
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
+
+        return Optional.of(verifiedToken);
+    }
+
+    @Override
+    public void putVerifiedToken(String token, VerifiedTokenModel verifiedToken) {
+        String digest = TokenDigestHelper.digest(token);
+
+        verifiedTokens.put(digest, verifiedToken);
+        digestsBySubject
+                .computeIfAbsent(verifiedToken.getSubject(), subject -> ConcurrentHashMap.newKeySet())
+                .add(digest);
+    }
+
+    @Override
+    public void evictToken(String token) {
+        verifiedTokens.invalidate(TokenDigestHelper.digest(token));
+    }
+
+    @Override
+    public void evictUserTokens(String email) {
+        Set<String> digests = digestsBySubject.remove(email);
+
+        if (digests != null) {
+            verifiedTokens.invalidateAll(digests);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        verifiedTokens.invalidateAll();
+        digestsBySubject.clear();
+    }
+
+    private void onRemoval(String digest, VerifiedTokenModel verifiedToken, RemovalCause cause) {
+        if (digest == null || verifiedToken == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+
+        digestsBySubject.computeIfPresent(verifiedToken.getSubject(), (subject, digests) -> {
+            digests.remove(digest);
+            return digests.isEmpty() ? null : digests;
+        });
+    }
+}
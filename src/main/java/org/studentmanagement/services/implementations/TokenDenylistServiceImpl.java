@@ -0,0 +1,38 @@
+package org.studentmanagement.services.implementations;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.studentmanagement.providers.TimeProvider;
+import org.studentmanagement.services.TokenDenylistService;
+import org.studentmanagement.utilities.InstantExpiry;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+@Service
+public class TokenDenylistServiceImpl implements TokenDenylistService {
+    private final Cache<String, Instant> revokedTokens;
+    private final TimeProvider timeProvider;
+
+    @Autowired
+    public TokenDenylistServiceImpl(TimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new InstantExpiry<String, Instant>(timeProvider, Function.identity()))
+                .build();
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expirationTime) {
+        if (tokenId != null && expirationTime.isAfter(timeProvider.getCurrentTime())) {
+            revokedTokens.put(tokenId, expirationTime);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedTokens.getIfPresent(tokenId) != null;
+    }
+}
@@ -0,0 +1,46 @@
+package org.studentmanagement.services.implementations;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.repositories.UserRepository;
+import org.studentmanagement.services.TokenEpochService;
+
+import java.time.Duration;
+
+@Service
+public class TokenEpochServiceImpl implements TokenEpochService {
+    private final UserRepository userRepository;
+    private final LoadingCache<Long, Long> epochs;
+
+    @Autowired
+    public TokenEpochServiceImpl(UserRepository userRepository, Environment environment) {
+        this(
+                userRepository,
+                environment.getProperty("app.jwt.epoch-cache.size", Long.class, 10000L),
+                environment.getProperty("app.jwt.epoch-cache.ttl", Duration.class, Duration.ofSeconds(30))
+        );
+    }
+
+    public TokenEpochServiceImpl(UserRepository userRepository, long maximumSize, Duration timeToLive) {
+        this.userRepository = userRepository;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build(userId -> userRepository.findTokenEpochById(userId).orElse(null));
+    }
+
+    @Override
+    public Long getEpoch(Long userId) {
+        return epochs.get(userId);
+    }
+
+    @Override
+    public void incrementEpoch(Long userId) {
+        userRepository.incrementTokenEpoch(userId);
+        userRepository.findTokenEpochById(userId)
+                .ifPresentOrElse(epoch -> epochs.put(userId, epoch), () -> epochs.invalidate(userId));
+    }
+}
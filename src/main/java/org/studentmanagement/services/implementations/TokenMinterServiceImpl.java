@@ -0,0 +1,141 @@
+package org.studentmanagement.services.implementations;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.models.SigningKeyModel;
+import org.studentmanagement.data.models.TokenClaimsModel;
+import org.studentmanagement.providers.JwtDataProvider;
+import org.studentmanagement.services.TokenMinterService;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Base64;
+
+@Service
+public class TokenMinterServiceImpl implements TokenMinterService {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final int PAYLOAD_CAPACITY = 256;
+
+    private final JwtDataProvider jwtDataProvider;
+    private volatile SigningMaterial signingMaterial;
+
+    @Autowired
+    public TokenMinterServiceImpl(JwtDataProvider jwtDataProvider) {
+        this.jwtDataProvider = jwtDataProvider;
+    }
+
+    @Override
+    public String mint(TokenClaimsModel claims) {
+        SigningMaterial material = getSigningMaterial();
+
+        StringBuilder token = new StringBuilder(PAYLOAD_CAPACITY * 2)
+                .append(material.encodedHeader())
+                .append('.')
+                .append(ENCODER.encodeToString(serializePayload(claims)));
+
+        Mac mac = material.mac().get();
+        byte[] signature = mac.doFinal(token.toString().getBytes(StandardCharsets.US_ASCII));
+
+        return token
+                .append('.')
+                .append(ENCODER.encodeToString(signature))
+                .toString();
+    }
+
+    private byte[] serializePayload(TokenClaimsModel claims) {
+        StringBuilder payload = new StringBuilder(PAYLOAD_CAPACITY).append('{');
+
+        appendString(payload, "jti", claims.getTokenId());
+        appendString(payload, "sub", claims.getSubject());
+
+        if (claims.getUserId() != null) {
+            appendNumber(payload, TokenClaimsModel.USER_ID_CLAIM, claims.getUserId());
+        }
+
+        appendString(payload, TokenClaimsModel.ROLE_CLAIM, claims.getRole());
+        appendNumber(payload, TokenClaimsModel.EPOCH_CLAIM, claims.getEpoch());
+        appendNumber(payload, "iat", claims.getIssuedAt().getEpochSecond());
+        appendNumber(payload, "exp", claims.getExpirationTime().getEpochSecond());
+
+        payload.setCharAt(payload.length() - 1, '}');
+        return payload.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void appendNumber(StringBuilder payload, String name, long value) {
+        payload.append('"').append(name).append("\":").append(value).append(',');
+    }
+
+    private void appendString(StringBuilder payload, String name, String value) {
+        if (value == null) {
+            return;
+        }
+
+        payload.append('"').append(name).append("\":\"");
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> payload.append("\\\"");
+                case '\\' -> payload.append("\\\\");
+                case '\n' -> payload.append("\\n");
+                case '\r' -> payload.append("\\r");
+                case '\t' -> payload.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        payload.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        payload.append(c);
+                    }
+                }
+            }
+        }
+
+        payload.append("\",");
+    }
+
+    private SigningMaterial getSigningMaterial() {
+        SigningKeyModel signingKey = jwtDataProvider.getSigningKey();
+        SigningMaterial current = signingMaterial;
+
+        if (current == null || current.signingKey() != signingKey) {
+            current = SigningMaterial.of(signingKey);
+            signingMaterial = current;
+        }
+
+        return current;
+    }
+
+    private record SigningMaterial(SigningKeyModel signingKey, String encodedHeader, ThreadLocal<Mac> mac) {
+        static SigningMaterial of(SigningKeyModel signingKey) {
+            Key key = signingKey.getKey();
+            String header = "{\"alg\":\"" + getJwsAlgorithm(key) + "\",\"kid\":\"" + signingKey.getKeyId() + "\"}";
+
+            return new SigningMaterial(
+                    signingKey,
+                    ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)),
+                    ThreadLocal.withInitial(() -> createMac(key)));
+        }
+
+        private static String getJwsAlgorithm(Key key) {
+            return switch (key.getAlgorithm()) {
+                case "HmacSHA256" -> "HS256";
+                case "HmacSHA384" -> "HS384";
+                case "HmacSHA512" -> "HS512";
+                default -> throw new IllegalStateException("Unsupported signing key algorithm " + key.getAlgorithm());
+            };
+        }
+
+        private static Mac createMac(Key key) {
+            try {
+                Mac mac = Mac.getInstance(key.getAlgorithm());
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.studentmanagement.services.implementations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.repositories.TokenRepository;
+import org.studentmanagement.providers.DateProvider;
+import org.studentmanagement.providers.JwtDataProvider;
+import org.studentmanagement.providers.TimeProvider;
+import org.studentmanagement.services.TokenReaperService;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class TokenReaperServiceImpl implements TokenReaperService {
+    private final TokenRepository tokenRepository;
+    private final JwtDataProvider jwtDataProvider;
+    private final TimeProvider timeProvider;
+    private final DateProvider dateProvider;
+    private final Counter reapedTokens;
+    private final AtomicLong tableSize;
+
+    @Autowired
+    public TokenReaperServiceImpl(TokenRepository tokenRepository,
+                                  JwtDataProvider jwtDataProvider,
+                                  TimeProvider timeProvider,
+                                  DateProvider dateProvider,
+                                  MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.jwtDataProvider = jwtDataProvider;
+        this.timeProvider = timeProvider;
+        this.dateProvider = dateProvider;
+        this.reapedTokens = Counter.builder("tokens.reaped")
+                .description("Expired tokens deleted by the reaper")
+                .register(meterRegistry);
+        this.tableSize = new AtomicLong();
+        Gauge.builder("tokens.table.size", tableSize, AtomicLong::get)
+                .description("Rows in the tokens table after the last reaper run")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(
+            initialDelayString = "${app.jwt.reaper.initial-delay:PT1M}",
+            fixedDelayString = "${app.jwt.reaper.interval:PT10M}")
+    public void reapExpiredTokens() {
+        Date now = dateProvider.getDateFrom(timeProvider.getCurrentTime());
+        int batchSize = jwtDataProvider.getReaperBatchSize();
+        List<Long> expiredTokenIds;
+
+        do {
+            expiredTokenIds = tokenRepository.findExpiredTokenIds(now, Limit.of(batchSize));
+
+            if (expiredTokenIds.isEmpty()) {
+                break;
+            }
+
+            reapedTokens.increment(tokenRepository.deleteByIdIn(expiredTokenIds));
+        } while (expiredTokenIds.size() == batchSize && pause(jwtDataProvider.getReaperPause()));
+
+        tableSize.set(tokenRepository.count());
+    }
+
+    private boolean pause(Duration pause) {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
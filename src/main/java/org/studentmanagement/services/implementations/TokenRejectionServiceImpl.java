@@ -0,0 +1,93 @@
+package org.studentmanagement.services.implementations;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.studentmanagement.data.enums.TokenStatusEnum;
+import org.studentmanagement.providers.JwtDataProvider;
+import org.studentmanagement.services.TokenRejectionService;
+import org.studentmanagement.utilities.TokenDigestHelper;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class TokenRejectionServiceImpl implements TokenRejectionService {
+    private static final Duration REJECTION_TTL = Duration.ofMinutes(1);
+
+    private final Cache<String, TokenStatusEnum> rejectedTokens;
+    private final Map<TokenStatusEnum, Counter> rejectionCounters;
+    private final Map<TokenStatusEnum, Counter> cachedRejectionCounters;
+
+    @Autowired
+    public TokenRejectionServiceImpl(JwtDataProvider jwtDataProvider, MeterRegistry meterRegistry) {
+        this(jwtDataProvider.getTokenCacheSize(), meterRegistry);
+    }
+
+    public TokenRejectionServiceImpl(long maximumSize, MeterRegistry meterRegistry) {
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(REJECTION_TTL)
+                .build();
+        this.rejectionCounters = new EnumMap<>(TokenStatusEnum.class);
+        this.cachedRejectionCounters = new EnumMap<>(TokenStatusEnum.class);
+
+        for (TokenStatusEnum status : TokenStatusEnum.values()) {
+            if (status == TokenStatusEnum.VALID) {
+                continue;
+            }
+
+            rejectionCounters.put(status, createCounter(meterRegistry, status, "verified"));
+            cachedRejectionCounters.put(status, createCounter(meterRegistry, status, "cached"));
+        }
+    }
+
+    private Counter createCounter(MeterRegistry meterRegistry, TokenStatusEnum status, String source) {
+        return Counter.builder("tokens.rejected")
+                .description("Bearer tokens rejected during verification")
+                .tag("reason", status.name().toLowerCase())
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<TokenStatusEnum> getRejection(String token) {
+        TokenStatusEnum status = rejectedTokens.getIfPresent(TokenDigestHelper.digest(token));
+
+        if (status == null) {
+            return Optional.empty();
+        }
+
+        cachedRejectionCounters.get(status).increment();
+        return Optional.of(status);
+    }
+
+    @Override
+    public void reject(String token, TokenStatusEnum status) {
+        if (status == TokenStatusEnum.VALID) {
+            return;
+        }
+
+        rejectedTokens.put(TokenDigestHelper.digest(token), status);
+        recordRejection(status);
+    }
+
+    @Override
+    public void recordRejection(TokenStatusEnum status) {
+        Counter counter = rejectionCounters.get(status);
+
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        rejectedTokens.invalidateAll();
+    }
+}
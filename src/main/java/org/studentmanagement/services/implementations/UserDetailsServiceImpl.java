@@ -1,36 +1,105 @@
 package org.studentmanagement.services.implementations;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.studentmanagement.data.entities.UserEntity;
+import org.studentmanagement.data.enums.RoleEnum;
 import org.studentmanagement.data.repositories.UserRepository;
+import org.studentmanagement.services.CredentialCacheService;
+import org.studentmanagement.services.UserDetailsCacheService;
 
-import java.util.LinkedList;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService, UserDetailsCacheService {
+    private static final Map<RoleEnum, List<GrantedAuthority>> AUTHORITIES = createAuthorities();
+
     private final UserRepository userRepository;
+    private final CredentialCacheService credentialCacheService;
+    private final Cache<String, CachedUser> users;
 
     @Autowired
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  CredentialCacheService credentialCacheService,
+                                  Environment environment) {
+        this(
+                userRepository,
+                credentialCacheService,
+                environment.getProperty("app.security.user-details-cache.size", Long.class, 10000L),
+                environment.getProperty("app.security.user-details-cache.ttl", Duration.class, Duration.ofMinutes(5))
+        );
+    }
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  CredentialCacheService credentialCacheService,
+                                  long maximumSize,
+                                  Duration timeToLive) {
         this.userRepository = userRepository;
+        this.credentialCacheService = credentialCacheService;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity user = userRepository.findUserEntityByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException(""));
+        CachedUser user = users.get(username, this::loadUser);
+
+        if (user == null) {
+            throw new UsernameNotFoundException("");
+        }
+
+        return new User(user.email(), user.password(), AUTHORITIES.get(user.role()));
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (userRepository.updatePassword(user.getUsername(), user.getPassword(), newPassword) == 0) {
+            return user;
+        }
 
-        List<GrantedAuthority> grantedAuthorities = new LinkedList<>();
-        grantedAuthorities.add(new SimpleGrantedAuthority(user.getRole().toString()));
+        evictUser(user.getUsername());
+
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
+    @Override
+    public void evictUser(String email) {
+        users.invalidate(email);
+        credentialCacheService.evictUser(email);
+    }
+
+    private CachedUser loadUser(String email) {
+        return userRepository.findUserEntityByEmail(email)
+                .map(user -> new CachedUser(user.getEmail(), user.getPassword(), user.getRole()))
+                .orElse(null);
+    }
+
+    private static Map<RoleEnum, List<GrantedAuthority>> createAuthorities() {
+        Map<RoleEnum, List<GrantedAuthority>> authorities = new EnumMap<>(RoleEnum.class);
+
+        for (RoleEnum role : RoleEnum.values()) {
+            authorities.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+        }
+
+        return authorities;
+    }
 
-        return new User(user.getEmail(), user.getPassword(), grantedAuthorities);
+    private record CachedUser(String email, String password, RoleEnum role) {
     }
 }
@@ -4,13 +4,15 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 import org.studentmanagement.data.bindingModels.LoginBindingModel;
+import org.studentmanagement.data.bindingModels.RefreshTokenBindingModel;
 import org.studentmanagement.data.bindingModels.RegisterUserBindingModel;
 import org.studentmanagement.data.entities.TokenEntity;
 import org.studentmanagement.data.entities.UserEntity;
@@ -20,11 +22,16 @@ import org.studentmanagement.data.viewModels.LoginUserViewModel;
 import org.studentmanagement.data.viewModels.UserViewModel;
 import org.studentmanagement.exceptions.EntityNotFoundException;
 import org.studentmanagement.exceptions.FieldConstraintViolationException;
+import org.studentmanagement.exceptions.InvalidRefreshTokenException;
 import org.studentmanagement.exceptions.UserEntityUniqueConstraintViolationException;
 import org.studentmanagement.services.JwtTokenService;
 import org.studentmanagement.services.RoleService;
+import org.studentmanagement.services.UserDetailsCacheService;
 import org.studentmanagement.services.UserService;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -32,26 +39,29 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
     private final Validator validator;
-    private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenService jwtTokenService;
     private final RoleService roleService;
+    private final UserDetailsCacheService userDetailsCacheService;
+    private final TransactionOperations transactionOperations;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
                            ModelMapper modelMapper,
                            Validator validator,
-                           AuthenticationManager authenticationManager,
                            PasswordEncoder passwordEncoder,
                            JwtTokenService jwtTokenService,
-                           RoleService roleService) {
+                           RoleService roleService,
+                           UserDetailsCacheService userDetailsCacheService,
+                           TransactionOperations transactionOperations) {
         this.userRepository = userRepository;
         this.modelMapper = modelMapper;
-        this.authenticationManager = authenticationManager;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenService = jwtTokenService;
         this.validator = validator;
         this.roleService = roleService;
+        this.userDetailsCacheService = userDetailsCacheService;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
@@ -90,23 +100,69 @@ public class UserServiceImpl implements UserService {
     @Override
     public LoginUserViewModel login(LoginBindingModel loginBindingModel) throws EntityNotFoundException {
         UserEntity user = getUserEntity(loginBindingModel.getEmail());
-        TokenEntity token = jwtTokenService.generateToken(user);
-        Authentication authentication = authenticationManager.authenticate(UsernamePasswordAuthenticationToken
-                .unauthenticated(loginBindingModel.getEmail(), loginBindingModel.getPassword()));
+        String password = loginBindingModel.getPassword();
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (password == null || !passwordEncoder.matches(password, user.getPassword())) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+
+        String upgradedPassword = passwordEncoder.upgradeEncoding(user.getPassword())
+                ? passwordEncoder.encode(password)
+                : null;
+
+        TokenEntity token = transactionOperations.execute(status -> {
+            if (upgradedPassword != null) {
+                userRepository.updatePassword(user.getEmail(), user.getPassword(), upgradedPassword);
+            }
+
+            return jwtTokenService.generateToken(user);
+        });
+
+        if (upgradedPassword != null) {
+            userDetailsCacheService.evictUser(user.getEmail());
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                user.getEmail(),
+                null,
+                List.of(new SimpleGrantedAuthority(user.getRole().name()))));
+
+        return mapLoginUserViewModel(user, token);
+    }
+
+    @Override
+    public LoginUserViewModel refresh(RefreshTokenBindingModel refreshTokenBindingModel)
+            throws InvalidRefreshTokenException {
+        TokenEntity token = jwtTokenService.refreshToken(refreshTokenBindingModel.getRefreshToken());
+        return mapLoginUserViewModel(token.getUser(), token);
+    }
 
+    private LoginUserViewModel mapLoginUserViewModel(UserEntity user, TokenEntity token) {
         LoginUserViewModel model = modelMapper.map(user, LoginUserViewModel.class);
         model.setToken(token.getToken());
         model.setExpirationDate(token.getExpirationDate());
+        model.setRefreshToken(token.getRefreshToken());
+        model.setRefreshExpirationDate(token.getRefreshExpirationDate());
 
         return model;
     }
 
+    @Override
+    public void logout(String token) {
+        if (token != null) {
+            jwtTokenService.revokeToken(token);
+        }
+    }
+
+    @Override
+    public void logoutEverywhere(String email) throws EntityNotFoundException {
+        UserEntity user = getUserEntity(email);
+        jwtTokenService.revokeAllTokens(user);
+    }
+
     @Override
     public UserViewModel getUser(Long id) throws EntityNotFoundException {
-        UserEntity user = getUserEntity(id);
-        return modelMapper.map(user, UserViewModel.class);
+        return userRepository.findViewById(id).orElseThrow(EntityNotFoundException::new);
     }
 
     @Override
@@ -117,6 +173,8 @@ public class UserServiceImpl implements UserService {
 
             user.setRole(role);
             userRepository.save(user);
+            userDetailsCacheService.evictUser(user.getEmail());
+            jwtTokenService.revokeAllTokens(user);
 
             return modelMapper.map(user, UserViewModel.class);
         } catch (IllegalArgumentException ex) {
@@ -132,4 +190,12 @@ public class UserServiceImpl implements UserService {
     public UserEntity getUserEntity(String email) throws EntityNotFoundException {
         return userRepository.findUserEntityByEmail(email).orElseThrow(EntityNotFoundException::new);
     }
+
+    @Override
+    public List<UserEntity> getUserEntities(Collection<Long> ids) {
+        List<UserEntity> users = new ArrayList<>(ids.size());
+        userRepository.findAllById(ids).forEach(users::add);
+
+        return users;
+    }
 }
@@ -0,0 +1,34 @@
+package org.studentmanagement.utilities;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.studentmanagement.providers.TimeProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+public class InstantExpiry<K, V> implements Expiry<K, V> {
+    private final TimeProvider timeProvider;
+    private final Function<V, Instant> expirationTimeExtractor;
+
+    public InstantExpiry(TimeProvider timeProvider, Function<V, Instant> expirationTimeExtractor) {
+        this.timeProvider = timeProvider;
+        this.expirationTimeExtractor = expirationTimeExtractor;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        Duration timeLeft = Duration.between(timeProvider.getCurrentTime(), expirationTimeExtractor.apply(value));
+        return timeLeft.isNegative() ? 0 : timeLeft.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,22 @@
+package org.studentmanagement.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class TokenDigestHelper {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest
+                    .getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
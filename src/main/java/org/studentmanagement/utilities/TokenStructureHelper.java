@@ -0,0 +1,53 @@
+package org.studentmanagement.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+public class TokenStructureHelper {
+    public static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int MAX_HEADER_LENGTH = 256;
+    private static final String ALGORITHM_FIELD = "\"alg\":\"";
+    private static final Set<String> ALLOWED_ALGORITHMS = Set.of("HS256", "HS384", "HS512");
+
+    public static boolean isWellFormed(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+
+        if (firstDot <= 0 || secondDot < 0 || secondDot == firstDot + 1
+                || secondDot == token.length() - 1 || token.indexOf('.', secondDot + 1) >= 0) {
+            return false;
+        }
+
+        return hasAllowedAlgorithm(token.substring(0, firstDot));
+    }
+
+    private static boolean hasAllowedAlgorithm(String encodedHeader) {
+        if (encodedHeader.length() > MAX_HEADER_LENGTH) {
+            return false;
+        }
+
+        String header;
+
+        try {
+            header = new String(Base64.getUrlDecoder().decode(encodedHeader), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        int start = header.indexOf(ALGORITHM_FIELD);
+
+        if (start < 0) {
+            return false;
+        }
+
+        start += ALGORITHM_FIELD.length();
+        int end = header.indexOf('"', start);
+
+        return end > start && ALLOWED_ALGORITHMS.contains(header.substring(start, end));
+    }
+}
@@ -0,0 +1,122 @@
+package org.studentmanagement.integration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.studentmanagement.data.entities.ClassEntity;
+import org.studentmanagement.data.entities.UserEntity;
+import org.studentmanagement.data.enums.RoleEnum;
+import org.studentmanagement.data.repositories.ClassRepository;
+import org.studentmanagement.data.repositories.UserRepository;
+import org.studentmanagement.testUtilities.BaseIntegrationTest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+public class AdminControllerIntegrationTests extends BaseIntegrationTest {
+    @Autowired
+    ClassRepository classRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void reloadJwtKeysAsAdmin() throws Exception {
+        authorize(RoleEnum.ADMIN);
+
+        mockMvc.perform(post("/admin/jwt/reload")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/roles")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void reloadJwtKeysAsTeacher() throws Exception {
+        authorize(RoleEnum.TEACHER);
+
+        mockMvc.perform(post("/admin/jwt/reload")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void exportClassesAsAdmin() throws Exception {
+        authorize(RoleEnum.ADMIN);
+        UserEntity teacher = addTestUser(RoleEnum.TEACHER, "teacher@test.com");
+        UserEntity firstStudent = addTestUser(RoleEnum.STUDENT, "first@test.com");
+        UserEntity secondStudent = addTestUser(RoleEnum.STUDENT, "second@test.com");
+        ClassEntity firstClass = classRepository.save(
+                new ClassEntity("first", "", teacher, new HashSet<>(Set.of(firstStudent, secondStudent))));
+        ClassEntity secondClass = classRepository.save(new ClassEntity("second", "", null, new HashSet<>()));
+
+        MvcResult result = mockMvc.perform(get("/admin/export/classes")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(result))
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<JsonNode> lines = content.lines().map(this::readLine).toList();
+
+        Assertions.assertEquals(4, lines.size());
+        Assertions.assertEquals("class", lines.get(0).get("type").asText());
+        Assertions.assertEquals(firstClass.getId(), lines.get(0).get("id").asLong());
+        Assertions.assertEquals(teacher.getId(), lines.get(0).get("teacherId").asLong());
+        Assertions.assertEquals(
+                Set.of(firstStudent.getId(), secondStudent.getId()),
+                Set.of(lines.get(1).get("studentId").asLong(), lines.get(2).get("studentId").asLong()));
+        Assertions.assertEquals("enrollment", lines.get(1).get("type").asText());
+        Assertions.assertEquals(firstClass.getId(), lines.get(2).get("classId").asLong());
+        Assertions.assertEquals(secondClass.getId(), lines.get(3).get("id").asLong());
+        Assertions.assertTrue(lines.get(3).get("teacherId").isNull());
+    }
+
+    @Test
+    void exportClassesAsTeacher() throws Exception {
+        authorize(RoleEnum.TEACHER);
+
+        mockMvc.perform(get("/admin/export/classes")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode readLine(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private UserEntity addTestUser(RoleEnum role, String email) {
+        return userRepository.save(new UserEntity(email, "testtest", "test", "test", role, new HashSet<>(), 0L));
+    }
+}
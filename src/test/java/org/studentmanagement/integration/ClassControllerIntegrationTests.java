@@ -2,6 +2,10 @@ package org.studentmanagement.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -13,20 +17,30 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.studentmanagement.data.bindingModels.AddClassBindingModel;
 import org.studentmanagement.data.bindingModels.AddStudentBindingModel;
+import org.studentmanagement.data.bindingModels.AddStudentsBindingModel;
 import org.studentmanagement.data.entities.ClassEntity;
 import org.studentmanagement.data.entities.UserEntity;
 import org.studentmanagement.data.enums.RoleEnum;
 import org.studentmanagement.data.repositories.ClassRepository;
 import org.studentmanagement.data.repositories.UserRepository;
+import org.studentmanagement.data.viewModels.ClassPageViewModel;
 import org.studentmanagement.data.viewModels.ClassViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentFailureViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentViewModel;
+import org.studentmanagement.data.viewModels.StudentPageViewModel;
+import org.studentmanagement.data.viewModels.StudentViewModel;
 import org.studentmanagement.data.viewModels.UserViewModel;
 import org.studentmanagement.testUtilities.BaseIntegrationTest;
 
 import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +56,10 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
     ObjectMapper objectMapper;
     @Autowired
     Gson gson;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
 
     @Nested
     @ActiveProfiles("test")
@@ -71,7 +89,9 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
                             status().isCreated(),
                             jsonPath("$.id").value("1"),
                             jsonPath("$.title").value("testTitle"),
-                            jsonPath("$.description").value("testDescription")
+                            jsonPath("$.description").value("testDescription"),
+                            jsonPath("$.studentCount").value(0),
+                            jsonPath("$.students").doesNotExist()
                     );
 
             Assertions.assertEquals(1, classRepository.count());
@@ -118,7 +138,34 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
                     .andExpect(status().isOk())
                     .andReturn();
 
-            Assertions.assertEquals(postResult.getResponse().getContentAsString(), getResult.getResponse().getContentAsString());
+            ClassViewModel createdClass = objectMapper
+                    .readValue(postResult.getResponse().getContentAsString(), ClassViewModel.class);
+            ClassViewModel fetchedClass = objectMapper
+                    .readValue(getResult.getResponse().getContentAsString(), ClassViewModel.class);
+
+            Assertions.assertEquals(createdClass.getId(), fetchedClass.getId());
+            Assertions.assertEquals(createdClass.getTitle(), fetchedClass.getTitle());
+            Assertions.assertEquals(createdClass.getDescription(), fetchedClass.getDescription());
+            Assertions.assertEquals(0L, createdClass.getStudentCount());
+            Assertions.assertEquals(0L, fetchedClass.getStudentCount());
+        }
+
+        @Test
+        void getClassReturnsTeacherAndStudentCount() throws Exception {
+            UserEntity teacher = addTestUser(RoleEnum.TEACHER, "teacher@test.com", "Teacher");
+            UserEntity firstStudent = addTestUser(RoleEnum.STUDENT, "first@test.com");
+            UserEntity secondStudent = addTestUser(RoleEnum.STUDENT, "second@test.com");
+            ClassEntity clazz = addTestClass(teacher, new UserEntity[]{firstStudent, secondStudent});
+
+            mockMvc.perform(get("/class/" + clazz.getId())
+                            .header("Authorization", "Bearer " + token))
+                    .andExpectAll(
+                            status().isOk(),
+                            jsonPath("$.id").value(clazz.getId()),
+                            jsonPath("$.teacher.lastName").value("Teacher"),
+                            jsonPath("$.studentCount").value(2),
+                            jsonPath("$.students").doesNotExist()
+                    );
         }
 
         @Test
@@ -141,7 +188,11 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
                             .header("Authorization", "Bearer " + token)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(gson.toJson(model)))
-                    .andExpect(status().isOk())
+                    .andExpectAll(
+                            status().isOk(),
+                            jsonPath("$.studentCount").value(0),
+                            jsonPath("$.students").doesNotExist()
+                    )
                     .andReturn();
 
             ClassViewModel mappedResult = objectMapper
@@ -211,18 +262,18 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
             UserEntity student = addTestUser(RoleEnum.STUDENT);
             AddStudentBindingModel model = new AddStudentBindingModel(student.getId());
 
-            MvcResult result = mockMvc.perform(post("/class/1")
+            mockMvc.perform(post("/class/1")
                             .header("Authorization", "Bearer " + token)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(gson.toJson(model)))
-                    .andExpect(status().isOk())
-                    .andReturn();
-
-            UserViewModel mappedStudent = objectMapper.convertValue(student, UserViewModel.class);
-            ClassViewModel mappedResult = objectMapper
-                    .readValue(result.getResponse().getContentAsString(), ClassViewModel.class);
+                    .andExpectAll(
+                            status().isOk(),
+                            jsonPath("$.id").value(1),
+                            jsonPath("$.studentCount").value(1),
+                            jsonPath("$.students").doesNotExist()
+                    );
 
-            Assertions.assertArrayEquals(mappedResult.getStudents(), new UserViewModel[]{mappedStudent});
+            Assertions.assertTrue(classRepository.existsByIdAndStudentsId(1L, student.getId()));
         }
 
         @Test
@@ -270,6 +321,238 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
 
             Assertions.assertEquals("User with id "+ user.getId() +" is not a student", result.getResponse().getContentAsString());
         }
+
+        @Test
+        void addStudentsToClassReportsFailures() throws Exception {
+            addTestClass();
+            UserEntity student = addTestUser(RoleEnum.STUDENT, "student@test.com");
+            UserEntity teacher = addTestUser(RoleEnum.TEACHER, "teacher@test.com");
+            AddStudentsBindingModel model = new AddStudentsBindingModel(
+                    new Long[]{student.getId(), teacher.getId(), 100L});
+
+            MvcResult result = mockMvc.perform(post("/class/1/students")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(gson.toJson(model)))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            EnrollmentViewModel mappedResult = objectMapper
+                    .readValue(result.getResponse().getContentAsString(), EnrollmentViewModel.class);
+
+            Assertions.assertArrayEquals(new Long[]{student.getId()}, mappedResult.getEnrolledStudentIds());
+            Assertions.assertArrayEquals(new EnrollmentFailureViewModel[]{
+                    new EnrollmentFailureViewModel(teacher.getId(), "User with id " + teacher.getId() + " is not a student"),
+                    new EnrollmentFailureViewModel(100L, "User with id 100 does not exist")
+            }, mappedResult.getFailures());
+
+            mockMvc.perform(get("/class/1")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpectAll(
+                            status().isOk(),
+                            jsonPath("$.studentCount").value(1)
+                    );
+        }
+
+        @Test
+        void setClassStudentsReplacesOnlyChangedMemberships() throws Exception {
+            UserEntity keptStudent = addTestUser(RoleEnum.STUDENT, "kept@test.com");
+            UserEntity removedStudent = addTestUser(RoleEnum.STUDENT, "removed@test.com");
+            UserEntity addedStudent = addTestUser(RoleEnum.STUDENT, "added@test.com");
+            ClassEntity clazz = addTestClass(null, new UserEntity[]{keptStudent, removedStudent});
+            AddClassBindingModel model = AddClassBindingModel
+                    .builder()
+                    .studentIds(new Long[]{keptStudent.getId(), addedStudent.getId()})
+                    .build();
+
+            mockMvc.perform(patch("/class/" + clazz.getId())
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(gson.toJson(model)))
+                    .andExpectAll(
+                            status().isOk(),
+                            jsonPath("$.studentCount").value(2),
+                            jsonPath("$.students").doesNotExist()
+                    );
+
+            Set<Long> studentIds = transactionTemplate.execute(status -> classRepository
+                    .findById(clazz.getId())
+                    .orElseThrow()
+                    .getStudents()
+                    .stream()
+                    .map(UserEntity::getId)
+                    .collect(Collectors.toSet()));
+
+            Assertions.assertEquals(Set.of(keptStudent.getId(), addedStudent.getId()), studentIds);
+        }
+
+        @Test
+        void setClassStudentsDoesNotRecreateRoster() throws Exception {
+            UserEntity firstStudent = addTestUser(RoleEnum.STUDENT, "first@test.com");
+            UserEntity secondStudent = addTestUser(RoleEnum.STUDENT, "second@test.com");
+            UserEntity thirdStudent = addTestUser(RoleEnum.STUDENT, "third@test.com");
+            ClassEntity clazz = addTestClass(null, new UserEntity[]{firstStudent, secondStudent, thirdStudent});
+            AddClassBindingModel model = AddClassBindingModel
+                    .builder()
+                    .studentIds(new Long[]{firstStudent.getId(), secondStudent.getId()})
+                    .build();
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            mockMvc.perform(patch("/class/" + clazz.getId())
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(gson.toJson(model)))
+                    .andExpect(status().isOk());
+
+            Assertions.assertEquals(0, statistics.getCollectionRecreateCount());
+            Assertions.assertEquals(0, statistics.getCollectionRemoveCount());
+            Assertions.assertEquals(1, statistics.getCollectionUpdateCount());
+            Assertions.assertFalse(classRepository.existsByIdAndStudentsId(clazz.getId(), thirdStudent.getId()));
+            Assertions.assertTrue(classRepository.existsByIdAndStudentsId(clazz.getId(), firstStudent.getId()));
+        }
+
+        @Test
+        void findClassDetailByIdFetchesTeacherAndRosterInOneStatement() {
+            UserEntity teacher = addTestUser(RoleEnum.TEACHER, "teacher@test.com", "Teacher");
+            UserEntity firstStudent = addTestUser(RoleEnum.STUDENT, "first@test.com");
+            UserEntity secondStudent = addTestUser(RoleEnum.STUDENT, "second@test.com");
+            ClassEntity clazz = addTestClass(teacher, new UserEntity[]{firstStudent, secondStudent});
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                ClassEntity loadedClass = classRepository.findDetailById(clazz.getId()).orElseThrow();
+
+                Assertions.assertEquals("Teacher", loadedClass.getTeacher().getLastName());
+                Assertions.assertEquals(2, loadedClass.getStudents().size());
+            });
+
+            Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        void findClassByIdLeavesRosterUnloaded() {
+            UserEntity student = addTestUser(RoleEnum.STUDENT, "student@test.com");
+            ClassEntity clazz = addTestClass(null, new UserEntity[]{student});
+
+            transactionTemplate.executeWithoutResult(status -> {
+                ClassEntity loadedClass = classRepository.findById(clazz.getId()).orElseThrow();
+
+                Assertions.assertFalse(Hibernate.isInitialized(loadedClass.getStudents()));
+            });
+        }
+
+        @Test
+        void addStudentToClassTwiceKeepsSingleEnrollment() throws Exception {
+            addTestClass();
+            UserEntity student = addTestUser(RoleEnum.STUDENT);
+            AddStudentBindingModel model = new AddStudentBindingModel(student.getId());
+
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(post("/class/1")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(gson.toJson(model)))
+                        .andExpect(status().isOk());
+            }
+
+            mockMvc.perform(get("/class/1")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(jsonPath("$.studentCount").value(1));
+        }
+
+        @Test
+        void getClassStudentsPaginatedById() throws Exception {
+            UserEntity firstStudent = addTestUser(RoleEnum.STUDENT, "first@test.com", "Charlie");
+            UserEntity secondStudent = addTestUser(RoleEnum.STUDENT, "second@test.com", "Alpha");
+            UserEntity thirdStudent = addTestUser(RoleEnum.STUDENT, "third@test.com", "Bravo");
+            ClassEntity clazz = addTestClass(null, new UserEntity[]{firstStudent, secondStudent, thirdStudent});
+
+            StudentPageViewModel firstPage = getClassStudents(clazz.getId(), null, null);
+
+            Assertions.assertArrayEquals(
+                    new Long[]{firstStudent.getId(), secondStudent.getId()},
+                    Arrays.stream(firstPage.getStudents()).map(StudentViewModel::getId).toArray(Long[]::new));
+            Assertions.assertNotNull(firstPage.getNextCursor());
+
+            StudentPageViewModel secondPage = getClassStudents(clazz.getId(), null, firstPage.getNextCursor());
+
+            Assertions.assertArrayEquals(
+                    new Long[]{thirdStudent.getId()},
+                    Arrays.stream(secondPage.getStudents()).map(StudentViewModel::getId).toArray(Long[]::new));
+            Assertions.assertNull(secondPage.getNextCursor());
+        }
+
+        @Test
+        void getClassStudentsPaginatedByLastName() throws Exception {
+            UserEntity firstStudent = addTestUser(RoleEnum.STUDENT, "first@test.com", "Charlie");
+            UserEntity secondStudent = addTestUser(RoleEnum.STUDENT, "second@test.com", "Alpha");
+            UserEntity thirdStudent = addTestUser(RoleEnum.STUDENT, "third@test.com", "Bravo");
+            ClassEntity clazz = addTestClass(null, new UserEntity[]{firstStudent, secondStudent, thirdStudent});
+
+            StudentPageViewModel firstPage = getClassStudents(clazz.getId(), "lastName", null);
+
+            Assertions.assertArrayEquals(
+                    new String[]{"Alpha", "Bravo"},
+                    Arrays.stream(firstPage.getStudents()).map(StudentViewModel::getLastName).toArray(String[]::new));
+
+            StudentPageViewModel secondPage = getClassStudents(clazz.getId(), "lastName", firstPage.getNextCursor());
+
+            Assertions.assertArrayEquals(
+                    new String[]{"Charlie"},
+                    Arrays.stream(secondPage.getStudents()).map(StudentViewModel::getLastName).toArray(String[]::new));
+            Assertions.assertNull(secondPage.getNextCursor());
+        }
+
+        @Test
+        void getClassStudentsUnsupportedSort() throws Exception {
+            addTestClass();
+
+            mockMvc.perform(get("/class/1/students")
+                            .param("sort", "email")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getClassStudentsNonExistentClass() throws Exception {
+            mockMvc.perform(get("/class/100/students")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isNotFound());
+        }
+
+        private StudentPageViewModel getClassStudents(Long classId, String sort, String after) throws Exception {
+            MockHttpServletRequestBuilder request = get("/class/" + classId + "/students")
+                    .param("size", "2")
+                    .header("Authorization", "Bearer " + token);
+
+            if (sort != null) {
+                request.param("sort", sort);
+            }
+
+            if (after != null) {
+                request.param("after", after);
+            }
+
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            return objectMapper.readValue(result.getResponse().getContentAsString(), StudentPageViewModel.class);
+        }
+
+        @Test
+        void addStudentsToClassNonExistentClass() throws Exception {
+            UserEntity student = addTestUser(RoleEnum.STUDENT);
+            AddStudentsBindingModel model = new AddStudentsBindingModel(new Long[]{student.getId()});
+
+            mockMvc.perform(post("/class/100/students")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(gson.toJson(model)))
+                    .andExpect(status().isNotFound());
+        }
     }
 
     @Nested
@@ -289,8 +572,8 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
 
             ClassViewModel[] mappedResult = objectMapper.readValue(
                     result.getResponse().getContentAsString(),
-                    ClassViewModel[].class
-            );
+                    ClassPageViewModel.class
+            ).getClasses();
 
             Assertions.assertEquals(1, mappedResult.length);
             Assertions.assertEquals(validClass.getId(), mappedResult[0].getId());
@@ -309,19 +592,99 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
 
             ClassViewModel[] mappedResult = objectMapper.readValue(
                     result.getResponse().getContentAsString(),
-                    ClassViewModel[].class
-            );
+                    ClassPageViewModel.class
+            ).getClasses();
 
             Assertions.assertEquals(1, mappedResult.length);
             Assertions.assertEquals(validClass.getId(), mappedResult[0].getId());
         }
+
+        @Test
+        void getUserClassesPaginated() throws Exception {
+            authorize(RoleEnum.TEACHER);
+            ClassEntity firstClass = addTestClass(user, "first");
+            ClassEntity secondClass = addTestClass(user, "second");
+            ClassEntity thirdClass = addTestClass(user, "third");
+
+            MvcResult firstResult = mockMvc.perform(get("/class")
+                            .param("size", "2")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            ClassPageViewModel firstPage = objectMapper.readValue(
+                    firstResult.getResponse().getContentAsString(),
+                    ClassPageViewModel.class
+            );
+
+            Assertions.assertArrayEquals(
+                    new Long[]{firstClass.getId(), secondClass.getId()},
+                    Arrays.stream(firstPage.getClasses()).map(ClassViewModel::getId).toArray(Long[]::new));
+            Assertions.assertNotNull(firstPage.getNextCursor());
+            Assertions.assertNotEquals(String.valueOf(secondClass.getId()), firstPage.getNextCursor());
+
+            MvcResult secondResult = mockMvc.perform(get("/class")
+                            .param("size", "2")
+                            .param("after", firstPage.getNextCursor())
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            ClassPageViewModel secondPage = objectMapper.readValue(
+                    secondResult.getResponse().getContentAsString(),
+                    ClassPageViewModel.class
+            );
+
+            Assertions.assertEquals(1, secondPage.getClasses().length);
+            Assertions.assertEquals(thirdClass.getId(), secondPage.getClasses()[0].getId());
+            Assertions.assertNull(secondPage.getNextCursor());
+        }
+
+        @Test
+        void getUserClassesStatementCountIndependentOfClassCount() throws Exception {
+            authorize(RoleEnum.TEACHER);
+            UserEntity student = addTestUser(RoleEnum.STUDENT, "student@test.com");
+            addTestClass(user, "class0", student);
+            countClassListStatements(1);
+
+            long singleClassStatements = countClassListStatements(1);
+
+            for (int i = 1; i < 50; i++) {
+                addTestClass(user, "class" + i, student);
+            }
+
+            long fiftyClassStatements = countClassListStatements(50);
+
+            Assertions.assertEquals(singleClassStatements, fiftyClassStatements);
+        }
+    }
+
+    private long countClassListStatements(int expectedClasses) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/class")
+                        .param("size", "100")
+                        .header("Authorization", "Bearer " + token))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.classes.length()").value(expectedClasses)
+                );
+
+        return statistics.getPrepareStatementCount();
     }
 
     private UserEntity addTestUser(RoleEnum role) {
+        return addTestUser(role, "test@test.com");
+    }
+
+    private UserEntity addTestUser(RoleEnum role, String email) {
+        return addTestUser(role, email, "test");
+    }
+
+    private UserEntity addTestUser(RoleEnum role, String email, String lastName) {
         UserEntity user = new UserEntity();
-        user.setEmail("test@test.com");
+        user.setEmail(email);
         user.setFirstName("test");
-        user.setLastName("test");
+        user.setLastName(lastName);
         user.setPassword("testtest");
         user.setRole(role);
 
@@ -334,6 +697,14 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
         addTestClass(null, new UserEntity[]{});
     }
 
+    private ClassEntity addTestClass(UserEntity teacher, String title, UserEntity... students) {
+        ClassEntity clazz = new ClassEntity(title, "", teacher, new HashSet<>(Arrays.asList(students)));
+
+        classRepository.save(clazz);
+
+        return clazz;
+    }
+
     private ClassEntity addTestClass(UserEntity teacher, UserEntity[] students) {
         Random random = new Random();
         int randomNumber = random.nextInt(100);
@@ -342,7 +713,7 @@ public class ClassControllerIntegrationTests extends BaseIntegrationTest {
                 "test" + randomNumber,
                 "",
                 teacher,
-                new LinkedList<>(Arrays.stream(students).toList())
+                new HashSet<>(Arrays.asList(students))
         );
 
         classRepository.save(clazz);
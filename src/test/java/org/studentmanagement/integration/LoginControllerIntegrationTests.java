@@ -0,0 +1,143 @@
+package org.studentmanagement.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.studentmanagement.data.bindingModels.LoginBindingModel;
+import org.studentmanagement.data.bindingModels.RefreshTokenBindingModel;
+import org.studentmanagement.data.enums.RoleEnum;
+import org.studentmanagement.data.viewModels.LoginUserViewModel;
+import org.studentmanagement.testUtilities.BaseIntegrationTest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+public class LoginControllerIntegrationTests extends BaseIntegrationTest {
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void loginQueryCount() throws Exception {
+        authorize(RoleEnum.TEACHER);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new Gson().toJson(new LoginBindingModel("loggedInUser@test.com", "test1234"))))
+                .andExpect(status().isOk());
+
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 3);
+    }
+
+    @Test
+    void loginWithWrongPasswordWritesNothing() throws Exception {
+        authorize(RoleEnum.TEACHER);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new Gson().toJson(new LoginBindingModel("loggedInUser@test.com", "wrongPassword"))));
+
+        Assertions.assertEquals(0, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityUpdateCount());
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+
+        mockMvc.perform(get("/roles")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void refreshRotatesTokens() throws Exception {
+        authorize(RoleEnum.TEACHER);
+        Gson gson = new Gson();
+        String jsonRefreshToken = gson.toJson(new RefreshTokenBindingModel(refreshToken));
+
+        MvcResult response = mockMvc.perform(post("/login/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRefreshToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        LoginUserViewModel viewModel = objectMapper.readValue(
+                response.getResponse().getContentAsString(),
+                LoginUserViewModel.class
+        );
+
+        mockMvc.perform(get("/roles")
+                        .header("Authorization", "Bearer " + viewModel.getToken()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/roles")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/login/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRefreshToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void concurrentSessionsStayValid() throws Exception {
+        authorize(RoleEnum.TEACHER);
+
+        MvcResult response = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new Gson().toJson(new LoginBindingModel("loggedInUser@test.com", "test1234"))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String secondToken = objectMapper.readValue(
+                response.getResponse().getContentAsString(),
+                LoginUserViewModel.class
+        ).getToken();
+
+        mockMvc.perform(get("/roles")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/roles")
+                        .header("Authorization", "Bearer " + secondToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/logout/all")
+                        .header("Authorization", "Bearer " + secondToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/roles")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshAfterLogout() throws Exception {
+        authorize(RoleEnum.TEACHER);
+
+        mockMvc.perform(post("/logout")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/login/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new Gson().toJson(new RefreshTokenBindingModel(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+}
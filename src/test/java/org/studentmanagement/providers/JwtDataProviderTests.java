@@ -0,0 +1,197 @@
+package org.studentmanagement.providers;
+
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
+import org.studentmanagement.data.models.SigningKeyModel;
+import org.studentmanagement.providers.implementations.JwtDataProviderImpl;
+import org.studentmanagement.utilities.TokenDigestHelper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+@SpringBootTest
+class JwtDataProviderTests {
+    @Mock
+    private TimeProvider timeProvider;
+    private MockEnvironment environment;
+    private Instant currentTime;
+    @TempDir
+    private Path keyDirectory;
+
+    @BeforeEach
+    void setUp() {
+        timeProvider = Mockito.mock(TimeProvider.class);
+        currentTime = Instant.now();
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime);
+        environment = new MockEnvironment()
+                .withProperty("app.jwt.expiration", "10")
+                .withProperty("app.jwt.key", createSecret())
+                .withProperty("app.jwt.key.algorithm", "HmacSHA256");
+    }
+
+    @Test
+    void testGetVerificationKeyForActiveKey() {
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+        SigningKeyModel signingKey = jwtDataProvider.getSigningKey();
+
+        Assertions.assertNotNull(signingKey.getKeyId());
+        Assertions.assertNull(signingKey.getRetirementTime());
+        Assertions.assertSame(signingKey, jwtDataProvider.getVerificationKey(signingKey.getKeyId()).orElseThrow());
+        Assertions.assertSame(signingKey, jwtDataProvider.getVerificationKey(null).orElseThrow());
+        Assertions.assertTrue(jwtDataProvider.getVerificationKey("unknown").isEmpty());
+    }
+
+    @Test
+    void testKeyIdFromConfiguration() {
+        environment.setProperty("app.jwt.key.id", "configured");
+        JwtDataProvider first = new JwtDataProviderImpl(environment, timeProvider);
+        JwtDataProvider second = new JwtDataProviderImpl(environment, timeProvider);
+
+        Assertions.assertEquals("configured", first.getSigningKey().getKeyId());
+        Assertions.assertEquals("configured", second.getSigningKey().getKeyId());
+    }
+
+    @Test
+    void testDerivedKeyIdIsStableAcrossInstances() {
+        JwtDataProvider first = new JwtDataProviderImpl(environment, timeProvider);
+        JwtDataProvider second = new JwtDataProviderImpl(environment, timeProvider);
+
+        Assertions.assertEquals(first.getSigningKey().getKeyId(), second.getSigningKey().getKeyId());
+    }
+
+    @Test
+    void testDerivedKeyIdDoesNotRevealSecretDigest() {
+        String secret = environment.getProperty("app.jwt.key");
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+        String keyId = jwtDataProvider.getSigningKey().getKeyId();
+
+        Assertions.assertFalse(TokenDigestHelper.digest(secret).startsWith(keyId));
+        Assertions.assertFalse(TokenDigestHelper.digest("HmacSHA256:" + secret).startsWith(keyId));
+    }
+
+    @Test
+    void testPreviousKeyVerifiesTokensAcrossRestart() {
+        String previousSecret = environment.getProperty("app.jwt.key");
+        String previousKeyId = new JwtDataProviderImpl(environment, timeProvider).getSigningKey().getKeyId();
+        environment.setProperty("app.jwt.key", createSecret());
+        environment.setProperty("app.jwt.key.previous", previousSecret);
+
+        JwtDataProvider restartedProvider = new JwtDataProviderImpl(environment, timeProvider);
+
+        Assertions.assertTrue(restartedProvider.getVerificationKey(previousKeyId).isPresent());
+    }
+
+    @Test
+    void testReloadPicksUpRotatedKeyFile() throws IOException {
+        Path keyFile = useKeyFile();
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+        SigningKeyModel previousKey = jwtDataProvider.getSigningKey();
+
+        writeKeyFile(keyFile, createSecret());
+        jwtDataProvider.reload();
+        SigningKeyModel activeKey = jwtDataProvider.getSigningKey();
+
+        Assertions.assertNotEquals(previousKey.getKeyId(), activeKey.getKeyId());
+        Assertions.assertFalse(Arrays.equals(previousKey.getKey().getEncoded(), activeKey.getKey().getEncoded()));
+        Assertions.assertTrue(jwtDataProvider.getVerificationKey(previousKey.getKeyId()).isPresent());
+
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime.plus(11, ChronoUnit.MINUTES));
+
+        Assertions.assertTrue(jwtDataProvider.getVerificationKey(previousKey.getKeyId()).isEmpty());
+        Assertions.assertTrue(jwtDataProvider.getVerificationKey(activeKey.getKeyId()).isPresent());
+    }
+
+    @Test
+    void testReloadDropsKeysPastRetirement() throws IOException {
+        Path keyFile = useKeyFile();
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+        SigningKeyModel firstKey = jwtDataProvider.getSigningKey();
+
+        writeKeyFile(keyFile, createSecret());
+        jwtDataProvider.reload();
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime.plus(11, ChronoUnit.MINUTES));
+        writeKeyFile(keyFile, createSecret());
+        jwtDataProvider.reload();
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime);
+
+        Assertions.assertTrue(jwtDataProvider.getVerificationKey(firstKey.getKeyId()).isEmpty());
+    }
+
+    @Test
+    void testReloadWithUnchangedKeyFileKeepsActiveKey() throws IOException {
+        useKeyFile();
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+        SigningKeyModel activeKey = jwtDataProvider.getSigningKey();
+
+        jwtDataProvider.reload();
+
+        Assertions.assertEquals(activeKey.getKeyId(), jwtDataProvider.getSigningKey().getKeyId());
+        Assertions.assertNull(jwtDataProvider.getSigningKey().getRetirementTime());
+    }
+
+    @Test
+    void testReloadWithUnreadableKeyFileKeepsCurrentKeys() throws IOException {
+        Path keyFile = useKeyFile();
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+        SigningKeyModel activeKey = jwtDataProvider.getSigningKey();
+
+        Files.delete(keyFile);
+
+        Assertions.assertThrows(IllegalStateException.class, jwtDataProvider::reload);
+        Assertions.assertSame(activeKey, jwtDataProvider.getSigningKey());
+    }
+
+    @Test
+    void testPreviousKeyFromConfiguration() {
+        environment.setProperty("app.jwt.key.previous", createSecret());
+        environment.setProperty("app.jwt.key.previous.id", "previous");
+
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+
+        Assertions.assertNotEquals("previous", jwtDataProvider.getSigningKey().getKeyId());
+        Assertions.assertEquals(
+                currentTime.plus(10, ChronoUnit.MINUTES),
+                jwtDataProvider.getVerificationKey("previous").orElseThrow().getRetirementTime());
+    }
+
+    @Test
+    void testReloadUsesKeyIdsFromKeyFile() throws IOException {
+        Path keyFile = useKeyFile();
+        JwtDataProvider jwtDataProvider = new JwtDataProviderImpl(environment, timeProvider);
+
+        Files.writeString(keyFile, "key=" + createSecret() + "\nid=second\n");
+        jwtDataProvider.reload();
+
+        Assertions.assertEquals("second", jwtDataProvider.getSigningKey().getKeyId());
+    }
+
+    private Path useKeyFile() throws IOException {
+        Path keyFile = keyDirectory.resolve("jwt-key.properties");
+        writeKeyFile(keyFile, createSecret());
+        environment.setProperty("app.jwt.key.file", keyFile.toString());
+
+        return keyFile;
+    }
+
+    private void writeKeyFile(Path keyFile, String secret) throws IOException {
+        Files.writeString(keyFile, "key=" + secret + "\n");
+    }
+
+    private String createSecret() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        return Encoders.BASE64.encode(keyBytes);
+    }
+}
@@ -0,0 +1,135 @@
+package org.studentmanagement.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.studentmanagement.exceptions.PasswordHashingRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest
+class BoundedPasswordEncoderTests {
+    @Mock
+    private PasswordEncoder delegate;
+    private MeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(PasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void testEncode() {
+        String rawPassword = "password";
+        String encodedPassword = "encoded";
+
+        Mockito.when(delegate.encode(rawPassword)).thenReturn(encodedPassword);
+
+        String result = passwordEncoder.encode(rawPassword);
+
+        Mockito.verify(delegate, Mockito.times(1)).encode(rawPassword);
+        Assertions.assertEquals(encodedPassword, result);
+        Assertions.assertEquals(1, meterRegistry.get("password.hashing.latency")
+                .tag("operation", "encode")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void testMatchesDeduplicatesConcurrentRequests() throws Exception {
+        String rawPassword = "password";
+        String encodedPassword = "encoded";
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Mockito.when(delegate.matches(rawPassword, encodedPassword)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(
+                () -> passwordEncoder.matches(rawPassword, encodedPassword));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                () -> passwordEncoder.matches(rawPassword, encodedPassword));
+        Thread.sleep(100);
+        release.countDown();
+
+        Assertions.assertTrue(first.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(second.get(5, TimeUnit.SECONDS));
+        Mockito.verify(delegate, Mockito.times(1)).matches(rawPassword, encodedPassword);
+    }
+
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Mockito.when(delegate.encode(Mockito.any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        waitForQueuedTask();
+
+        Assertions.assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("third"));
+        Assertions.assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        Assertions.assertEquals("encoded", running.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("encoded", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testRejectsWhenHashingTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        MeterRegistry timingOutRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder timingOutEncoder =
+                new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50), timingOutRegistry);
+
+        Mockito.when(delegate.encode(Mockito.any())).thenAnswer(invocation -> {
+            release.await();
+            return "encoded";
+        });
+
+        try {
+            Assertions.assertThrows(PasswordHashingRejectedException.class, () -> timingOutEncoder.encode("password"));
+            Assertions.assertEquals(1.0, timingOutRegistry.get("password.hashing.timeouts").counter().count());
+        } finally {
+            release.countDown();
+            timingOutEncoder.destroy();
+        }
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
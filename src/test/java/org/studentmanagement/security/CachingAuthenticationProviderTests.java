@@ -0,0 +1,140 @@
+package org.studentmanagement.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.studentmanagement.exceptions.PasswordHashingRejectedException;
+import org.studentmanagement.exceptions.PasswordHashingUnavailableException;
+import org.studentmanagement.services.CredentialCacheService;
+import org.studentmanagement.services.implementations.CredentialCacheServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+@SpringBootTest
+class CachingAuthenticationProviderTests {
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("TEACHER"));
+
+    @Mock
+    private AuthenticationProvider delegate;
+    private CredentialCacheService credentialCacheService;
+    private CachingAuthenticationProvider authenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(AuthenticationProvider.class);
+        credentialCacheService = new CredentialCacheServiceImpl(100L, Duration.ofMinutes(1));
+        authenticationProvider = new CachingAuthenticationProvider(delegate, credentialCacheService);
+    }
+
+    @Test
+    void testAuthenticateCachesSuccessfulCredentials() {
+        Mockito.when(delegate.authenticate(Mockito.any())).thenReturn(createAuthenticated("mail"));
+
+        authenticationProvider.authenticate(createRequest("mail", "password"));
+        Authentication result = authenticationProvider.authenticate(createRequest("mail", "password"));
+
+        Mockito.verify(delegate, Mockito.times(1)).authenticate(Mockito.any());
+        Assertions.assertTrue(result.isAuthenticated());
+        Assertions.assertEquals("mail", result.getName());
+        Assertions.assertNull(result.getCredentials());
+        Assertions.assertEquals(AUTHORITIES, List.copyOf(result.getAuthorities()));
+    }
+
+    @Test
+    void testAuthenticateWithDifferentPasswordCallsDelegate() {
+        Mockito.when(delegate.authenticate(Mockito.any()))
+                .thenReturn(createAuthenticated("mail"))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        authenticationProvider.authenticate(createRequest("mail", "password"));
+
+        Assertions.assertThrows(BadCredentialsException.class,
+                () -> authenticationProvider.authenticate(createRequest("mail", "wrong")));
+        Mockito.verify(delegate, Mockito.times(2)).authenticate(Mockito.any());
+    }
+
+    @Test
+    void testAuthenticateDoesNotCacheFailures() {
+        Mockito.when(delegate.authenticate(Mockito.any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        Assertions.assertThrows(BadCredentialsException.class,
+                () -> authenticationProvider.authenticate(createRequest("mail", "wrong")));
+        Assertions.assertThrows(BadCredentialsException.class,
+                () -> authenticationProvider.authenticate(createRequest("mail", "wrong")));
+
+        Mockito.verify(delegate, Mockito.times(2)).authenticate(Mockito.any());
+    }
+
+    @Test
+    void testAuthenticateAfterEvictUserCallsDelegate() {
+        Mockito.when(delegate.authenticate(Mockito.any())).thenReturn(createAuthenticated("mail"));
+
+        authenticationProvider.authenticate(createRequest("mail", "password"));
+        credentialCacheService.evictUser("mail");
+        authenticationProvider.authenticate(createRequest("mail", "password"));
+
+        Mockito.verify(delegate, Mockito.times(2)).authenticate(Mockito.any());
+    }
+
+    @Test
+    void testAuthenticateWithRejectedHashingThrowsAuthenticationException() {
+        Mockito.when(delegate.authenticate(Mockito.any()))
+                .thenThrow(new PasswordHashingRejectedException("Password hashing capacity exhausted"));
+
+        Assertions.assertThrows(PasswordHashingUnavailableException.class,
+                () -> authenticationProvider.authenticate(createRequest("mail", "password")));
+    }
+
+    @Test
+    void testBasicAuthenticationWithRejectedHashingReturnsServiceUnavailable() throws Exception {
+        BasicAuthenticationFilter filter = new BasicAuthenticationFilter(
+                new ProviderManager(authenticationProvider),
+                new JwtAuthenticationEntryPoint());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+        String credentials = Base64.getEncoder().encodeToString("mail:password".getBytes(StandardCharsets.UTF_8));
+
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials);
+        Mockito.when(delegate.authenticate(Mockito.any()))
+                .thenThrow(new PasswordHashingRejectedException("Password hashing capacity exhausted"));
+
+        filter.doFilter(request, response, filterChain);
+
+        Assertions.assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, response.getStatus());
+        Assertions.assertEquals(PasswordHashingRejectedException.RETRY_AFTER_SECONDS,
+                response.getHeader(HttpHeaders.RETRY_AFTER));
+        Mockito.verifyNoInteractions(filterChain);
+    }
+
+    private Authentication createRequest(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+
+    private Authentication createAuthenticated(String username) {
+        UserDetails user = new User(username, "hash", AUTHORITIES);
+
+        return UsernamePasswordAuthenticationToken.authenticated(user, "password", AUTHORITIES);
+    }
+}
@@ -0,0 +1,93 @@
+package org.studentmanagement.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.studentmanagement.services.implementations.ClassExportServiceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@SpringBootTest
+class ClassExportServiceTests {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ResultSet resultSet;
+    private ClassExportService classExportService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        resultSet = Mockito.mock(ResultSet.class);
+        classExportService = new ClassExportServiceImpl(jdbcTemplate, new ObjectMapper());
+    }
+
+    @Test
+    void testExportClassesWritesOneLinePerClassAndEnrollment() throws IOException, SQLException {
+        Mockito.when(resultSet.getLong("class_id")).thenReturn(1L, 1L, 2L);
+        Mockito.when(resultSet.getString("title")).thenReturn("first", "second");
+        Mockito.when(resultSet.getString("description")).thenReturn("description", null);
+        Mockito.when(resultSet.getLong("teacher_id")).thenReturn(5L, 0L);
+        Mockito.when(resultSet.getLong("student_id")).thenReturn(10L, 11L, 0L);
+        Mockito.when(resultSet.wasNull()).thenReturn(false, false, false, true, true);
+        mockRows(3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        classExportService.exportClasses(outputStream);
+
+        Assertions.assertEquals(
+                "{\"type\":\"class\",\"id\":1,\"title\":\"first\",\"description\":\"description\",\"teacherId\":5}\n" +
+                        "{\"type\":\"enrollment\",\"classId\":1,\"studentId\":10}\n" +
+                        "{\"type\":\"enrollment\",\"classId\":1,\"studentId\":11}\n" +
+                        "{\"type\":\"class\",\"id\":2,\"title\":\"second\",\"description\":null,\"teacherId\":null}\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportClassesWithoutClassesWritesNothing() throws IOException {
+        mockRows(0);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        classExportService.exportClasses(outputStream);
+
+        Assertions.assertEquals(0, outputStream.size());
+    }
+
+    @Test
+    void testExportClassesPropagatesWriteFailure() throws SQLException {
+        Mockito.when(resultSet.getLong("class_id")).thenReturn(1L);
+        Mockito.when(resultSet.wasNull()).thenReturn(true);
+        mockRows(1);
+        OutputStream outputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        Assertions.assertThrows(IOException.class, () -> classExportService.exportClasses(outputStream));
+    }
+
+    private void mockRows(int rows) {
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+
+            for (int i = 0; i < rows; i++) {
+                handler.processRow(resultSet);
+            }
+
+            return null;
+        }).when(jdbcTemplate).query(Mockito.anyString(), Mockito.any(RowCallbackHandler.class));
+    }
+}
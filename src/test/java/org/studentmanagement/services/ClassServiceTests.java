@@ -8,22 +8,35 @@ import org.mockito.Mockito;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.studentmanagement.data.bindingModels.AddClassBindingModel;
 import org.studentmanagement.data.bindingModels.AddStudentBindingModel;
+import org.studentmanagement.data.bindingModels.AddStudentsBindingModel;
 import org.studentmanagement.data.entities.ClassEntity;
 import org.studentmanagement.data.entities.UserEntity;
 import org.studentmanagement.data.enums.RoleEnum;
+import org.studentmanagement.data.models.ClassSummaryModel;
 import org.studentmanagement.data.repositories.ClassRepository;
+import org.studentmanagement.data.viewModels.ClassPageViewModel;
 import org.studentmanagement.data.viewModels.ClassViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentFailureViewModel;
+import org.studentmanagement.data.viewModels.EnrollmentViewModel;
+import org.studentmanagement.data.viewModels.StudentPageViewModel;
+import org.studentmanagement.data.viewModels.StudentViewModel;
+import org.studentmanagement.data.viewModels.UserViewModel;
 import org.studentmanagement.exceptions.EntityNotFoundException;
 import org.studentmanagement.exceptions.FieldConstraintViolationException;
 import org.studentmanagement.exceptions.RoleRequirementViolationException;
 import org.studentmanagement.services.implementations.ClassServiceImpl;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @SpringBootTest
 class ClassServiceTests {
@@ -57,23 +70,23 @@ class ClassServiceTests {
                 .title("ClassTitle")
                 .description("ClassDescription")
                 .build();
-        ClassViewModel viewModel = ClassViewModel
-                .builder()
-                .title("ClassTitle")
-                .description("ClassDescription")
-                .build();
+        ClassSummaryModel summary = new ClassSummaryModel(
+                1L, "ClassTitle", "ClassDescription", null, null, null, 0L);
 
         Mockito.when(modelMapper.map(bindingModel, ClassEntity.class)).thenReturn(classEntity);
         Mockito.when(classRepository.save(classEntity)).thenReturn(classEntity);
-        Mockito.when(modelMapper.map(classEntity, ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(classRepository.findSummaryById(classEntity.getId())).thenReturn(Optional.of(summary));
 
         ClassViewModel result = classService.addClass(bindingModel);
 
-        Assertions.assertEquals(viewModel, result);
+        Assertions.assertEquals(1L, result.getId());
+        Assertions.assertEquals("ClassTitle", result.getTitle());
+        Assertions.assertEquals("ClassDescription", result.getDescription());
+        Assertions.assertEquals(0L, result.getStudentCount());
 
         Mockito.verify(modelMapper, Mockito.times(1)).map(bindingModel, ClassEntity.class);
         Mockito.verify(classRepository, Mockito.times(1)).save(classEntity);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(classEntity, ClassViewModel.class);
+        Mockito.verify(modelMapper, Mockito.never()).map(classEntity, ClassViewModel.class);
     }
 
     @Test
@@ -91,95 +104,192 @@ class ClassServiceTests {
     }
 
     @Test
-    void testGetUserClassForStudent() throws EntityNotFoundException {
+    void testGetUserClassForStudent() throws EntityNotFoundException, FieldConstraintViolationException {
         Principal principal = Mockito.mock(Principal.class);
         String expectedEmail = "test@test.com";
-        UserEntity user = Mockito.mock(UserEntity.class);
-        List<ClassEntity> userClasses = List.of(ClassEntity
-                .builder()
-                .title("ClassTitle")
-                .description("ClassDescription")
-                .build());
-        ClassViewModel viewModel = ClassViewModel
-                .builder()
-                .title("ClassTitle")
-                .description("ClassDescription")
-                .build();
+        UserEntity user = createUser(7L, RoleEnum.STUDENT);
+        ClassSummaryModel userClass = new ClassSummaryModel(
+                3L, "ClassTitle", "ClassDescription", 5L, "first", "last", 2L);
 
         Mockito.when(principal.getName()).thenReturn(expectedEmail);
         Mockito.when(userService.getUserEntity(expectedEmail)).thenReturn(user);
-        Mockito.when(user.getRole()).thenReturn(RoleEnum.STUDENT);
-        Mockito.when(classRepository.findAllByStudentsContains(user)).thenReturn(userClasses);
-        Mockito.when(modelMapper.map(userClasses.getFirst(), ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(classRepository.findSummariesByStudentId(7L, 0L, Limit.of(21)))
+                .thenReturn(List.of(userClass));
 
-        List<ClassViewModel> result = classService.getUserClasses(principal);
+        ClassPageViewModel result = classService.getUserClasses(principal, null, null);
 
-        Assertions.assertArrayEquals(List.of(viewModel).toArray(), result.toArray());
-        Mockito.verify(principal, Mockito.times(1)).getName();
+        Assertions.assertEquals(1, result.getClasses().length);
+        Assertions.assertEquals(3L, result.getClasses()[0].getId());
+        Assertions.assertEquals("ClassTitle", result.getClasses()[0].getTitle());
+        Assertions.assertEquals(new UserViewModel("first", "last"), result.getClasses()[0].getTeacher());
+        Assertions.assertEquals(2L, result.getClasses()[0].getStudentCount());
+        Assertions.assertNull(result.getNextCursor());
         Mockito.verify(userService, Mockito.times(1)).getUserEntity(expectedEmail);
-        Mockito.verify(user, Mockito.times(1)).getRole();
-        Mockito.verify(classRepository, Mockito.times(1)).findAllByStudentsContains(user);
-        Mockito.verify(classRepository, Mockito.times(0)).findAllByTeacher(user);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(userClasses.getFirst(), ClassViewModel.class);
+        Mockito.verify(classRepository, Mockito.never())
+                .findSummariesByTeacherId(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verifyNoInteractions(modelMapper);
     }
 
     @Test
-    void testGetUserClassForTeacher() throws EntityNotFoundException {
+    void testGetUserClassForTeacher() throws EntityNotFoundException, FieldConstraintViolationException {
         Principal principal = Mockito.mock(Principal.class);
         String expectedEmail = "test@test.com";
-        UserEntity user = Mockito.mock(UserEntity.class);
-        List<ClassEntity> userClasses = List.of(ClassEntity
-                .builder()
-                .title("ClassTitle")
-                .description("ClassDescription")
-                .build());
-        ClassViewModel viewModel = ClassViewModel
-                .builder()
-                .title("ClassTitle")
-                .description("ClassDescription")
-                .build();
+        UserEntity user = createUser(7L, RoleEnum.TEACHER);
 
         Mockito.when(principal.getName()).thenReturn(expectedEmail);
         Mockito.when(userService.getUserEntity(expectedEmail)).thenReturn(user);
-        Mockito.when(user.getRole()).thenReturn(RoleEnum.TEACHER);
-        Mockito.when(classRepository.findAllByTeacher(user)).thenReturn(userClasses);
-        Mockito.when(modelMapper.map(userClasses.getFirst(), ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(classRepository.findSummariesByTeacherId(7L, 10L, Limit.of(3)))
+                .thenReturn(List.of(createSummary(11L), createSummary(12L), createSummary(13L)));
 
-        List<ClassViewModel> result = classService.getUserClasses(principal);
+        ClassPageViewModel result = classService.getUserClasses(principal, encodeCursor("10"), 2);
 
-        Assertions.assertArrayEquals(List.of(viewModel).toArray(), result.toArray());
-        Mockito.verify(principal, Mockito.times(1)).getName();
-        Mockito.verify(userService, Mockito.times(1)).getUserEntity(expectedEmail);
-        Mockito.verify(user, Mockito.times(1)).getRole();
-        Mockito.verify(classRepository, Mockito.times(0)).findAllByStudentsContains(user);
-        Mockito.verify(classRepository, Mockito.times(1)).findAllByTeacher(user);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(userClasses.getFirst(), ClassViewModel.class);
+        Assertions.assertArrayEquals(
+                new Long[]{11L, 12L},
+                Arrays.stream(result.getClasses()).map(ClassViewModel::getId).toArray(Long[]::new));
+        Assertions.assertEquals(encodeCursor("12"), result.getNextCursor());
+        Mockito.verify(classRepository, Mockito.never())
+                .findSummariesByStudentId(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testGetUserClassClampsPageSize() throws EntityNotFoundException, FieldConstraintViolationException {
+        Principal principal = Mockito.mock(Principal.class);
+        UserEntity user = createUser(7L, RoleEnum.TEACHER);
+
+        Mockito.when(principal.getName()).thenReturn("test@test.com");
+        Mockito.when(userService.getUserEntity("test@test.com")).thenReturn(user);
+        Mockito.when(classRepository.findSummariesByTeacherId(
+                Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(List.of());
+
+        classService.getUserClasses(principal, null, 100000);
+        classService.getUserClasses(principal, null, 0);
+
+        Mockito.verify(classRepository, Mockito.times(1)).findSummariesByTeacherId(7L, 0L, Limit.of(101));
+        Mockito.verify(classRepository, Mockito.times(1)).findSummariesByTeacherId(7L, 0L, Limit.of(2));
+    }
+
+    @Test
+    void testGetUserClassInvalidCursor() {
+        Principal principal = Mockito.mock(Principal.class);
+
+        Assertions.assertThrows(FieldConstraintViolationException.class,
+                () -> classService.getUserClasses(principal, "12", null));
+        Assertions.assertThrows(FieldConstraintViolationException.class,
+                () -> classService.getUserClasses(principal, "not a cursor", null));
+        Mockito.verifyNoInteractions(classRepository);
     }
 
     @Test
     void testGetClassWhichExists() throws EntityNotFoundException {
         long expectedId = 1L;
-        ClassEntity classEntity = Mockito.mock(ClassEntity.class);
-        ClassViewModel viewModel = Mockito.mock(ClassViewModel.class);
+        ClassSummaryModel summary = new ClassSummaryModel(expectedId, "title", "description", 2L, "first", "last", 3L);
+
+        Mockito.when(classRepository.findSummaryById(expectedId)).thenReturn(Optional.of(summary));
+
+        ClassViewModel result = classService.getClass(expectedId);
+
+        Assertions.assertEquals(expectedId, result.getId());
+        Assertions.assertEquals("title", result.getTitle());
+        Assertions.assertEquals("description", result.getDescription());
+        Assertions.assertEquals(new UserViewModel("first", "last"), result.getTeacher());
+        Assertions.assertEquals(3L, result.getStudentCount());
+        Mockito.verify(classRepository, Mockito.never()).findById(Mockito.any());
+        Mockito.verifyNoInteractions(modelMapper);
+    }
+
+    @Test
+    void testGetClassWithoutTeacher() throws EntityNotFoundException {
+        long expectedId = 1L;
+        ClassSummaryModel summary = new ClassSummaryModel(expectedId, "title", "", null, null, null, 0L);
 
-        Mockito.when(classRepository.findById(expectedId)).thenReturn(Optional.of(classEntity));
-        Mockito.when(modelMapper.map(classEntity, ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(classRepository.findSummaryById(expectedId)).thenReturn(Optional.of(summary));
 
         ClassViewModel result = classService.getClass(expectedId);
 
-        Assertions.assertEquals(viewModel, result);
-        Mockito.verify(classRepository, Mockito.times(1)).findById(expectedId);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(classEntity, ClassViewModel.class);
+        Assertions.assertNull(result.getTeacher());
+        Assertions.assertEquals(0L, result.getStudentCount());
+    }
+
+    @Test
+    void testGetClassStudentsFirstPage() throws EntityNotFoundException, FieldConstraintViolationException {
+        long expectedClassId = 1L;
+        List<StudentViewModel> students = List.of(
+                new StudentViewModel(2L, "first", "first"),
+                new StudentViewModel(3L, "second", "second"),
+                new StudentViewModel(4L, "third", "third"));
+
+        Mockito.when(classRepository.existsById(expectedClassId)).thenReturn(true);
+        Mockito.when(classRepository.findStudentsOrderById(expectedClassId, 0L, Limit.of(3))).thenReturn(students);
+
+        StudentPageViewModel result = classService.getClassStudents(expectedClassId, null, 2, null);
+
+        Assertions.assertArrayEquals(students.subList(0, 2).toArray(StudentViewModel[]::new), result.getStudents());
+        Assertions.assertNotNull(result.getNextCursor());
+
+        Mockito.when(classRepository.findStudentsOrderById(expectedClassId, 3L, Limit.of(3)))
+                .thenReturn(List.of(students.get(2)));
+
+        StudentPageViewModel nextResult = classService.getClassStudents(expectedClassId, result.getNextCursor(), 2, null);
+
+        Assertions.assertArrayEquals(new StudentViewModel[]{students.get(2)}, nextResult.getStudents());
+        Assertions.assertNull(nextResult.getNextCursor());
+    }
+
+    @Test
+    void testGetClassStudentsByLastNameUsesCompositeCursor()
+            throws EntityNotFoundException, FieldConstraintViolationException {
+        long expectedClassId = 1L;
+        StudentViewModel first = new StudentViewModel(7L, "first", "Alpha");
+        StudentViewModel second = new StudentViewModel(3L, "second", "Bravo");
+
+        Mockito.when(classRepository.existsById(expectedClassId)).thenReturn(true);
+        Mockito.when(classRepository.findStudentsOrderByLastName(expectedClassId, "", 0L, Limit.of(2)))
+                .thenReturn(List.of(first, second));
+
+        StudentPageViewModel result = classService.getClassStudents(expectedClassId, null, 1, "lastName");
+
+        Assertions.assertArrayEquals(new StudentViewModel[]{first}, result.getStudents());
+
+        classService.getClassStudents(expectedClassId, result.getNextCursor(), 1, "lastName");
+
+        Mockito.verify(classRepository, Mockito.times(1))
+                .findStudentsOrderByLastName(expectedClassId, "Alpha", 7L, Limit.of(2));
+    }
+
+    @Test
+    void testGetClassStudentsUnsupportedSort() {
+        Mockito.when(classRepository.existsById(1L)).thenReturn(true);
+
+        Assertions.assertThrows(FieldConstraintViolationException.class,
+                () -> classService.getClassStudents(1L, null, null, "email"));
+    }
+
+    @Test
+    void testGetClassStudentsInvalidCursor() {
+        Mockito.when(classRepository.existsById(1L)).thenReturn(true);
+
+        Assertions.assertThrows(FieldConstraintViolationException.class,
+                () -> classService.getClassStudents(1L, "not a cursor", null, null));
+    }
+
+    @Test
+    void testGetClassStudentsNonexistentClass() {
+        Mockito.when(classRepository.existsById(1L)).thenReturn(false);
+
+        Assertions.assertThrows(EntityNotFoundException.class,
+                () -> classService.getClassStudents(1L, null, null, null));
+        Mockito.verify(classRepository, Mockito.never())
+                .findStudentsOrderById(Mockito.anyLong(), Mockito.anyLong(), Mockito.any());
     }
 
     @Test
     void testGetClassNonexistentClass() {
         Long expectedId = 1L;
 
-        Mockito.when(classRepository.findById(expectedId)).thenReturn(Optional.empty());
+        Mockito.when(classRepository.findSummaryById(expectedId)).thenReturn(Optional.empty());
 
         Assertions.assertThrows(EntityNotFoundException.class, () -> classService.getClass(expectedId));
-        Mockito.verify(classRepository, Mockito.times(1)).findById(expectedId);
+        Mockito.verify(classRepository, Mockito.times(1)).findSummaryById(expectedId);
     }
 
     @Test
@@ -192,31 +302,29 @@ class ClassServiceTests {
                 .teacherId(expectedTeacherId)
                 .studentIds(new Long[]{expectedStudentId})
                 .build();
-        ClassEntity classEntity = Mockito.mock(ClassEntity.class);
-        UserEntity teacher = Mockito.mock(UserEntity.class);
-        UserEntity student = Mockito.mock(UserEntity.class);
-        ClassViewModel viewModel = Mockito.mock(ClassViewModel.class);
+        ClassEntity classEntity = new ClassEntity();
+        UserEntity teacher = createUser(expectedTeacherId, RoleEnum.TEACHER);
+        UserEntity student = createUser(expectedStudentId, RoleEnum.STUDENT);
+        ClassSummaryModel summary = new ClassSummaryModel(
+                expectedClassId, "title", "", expectedTeacherId, "first", "last", 1L);
 
-        Mockito.when(classRepository.findById(expectedClassId)).thenReturn(Optional.of(classEntity));
+        Mockito.when(classRepository.findDetailById(expectedClassId)).thenReturn(Optional.of(classEntity));
         Mockito.when(userService.getUserEntity(expectedTeacherId)).thenReturn(teacher);
-        Mockito.when(teacher.getRole()).thenReturn(RoleEnum.TEACHER);
-        Mockito.when(userService.getUserEntity(expectedStudentId)).thenReturn(student);
-        Mockito.when(student.getRole()).thenReturn(RoleEnum.STUDENT);
-        Mockito.when(modelMapper.map(classEntity, ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(userService.getUserEntities(Set.of(expectedStudentId))).thenReturn(List.of(student));
+        Mockito.when(classRepository.findSummaryById(classEntity.getId())).thenReturn(Optional.of(summary));
 
         ClassViewModel result = classService.updateClass(expectedClassId, bindingModel);
 
-        Assertions.assertEquals(viewModel, result);
-        Mockito.verify(classRepository, Mockito.times(1)).findById(expectedClassId);
+        Assertions.assertEquals(expectedClassId, result.getId());
+        Assertions.assertEquals(new UserViewModel("first", "last"), result.getTeacher());
+        Assertions.assertEquals(1L, result.getStudentCount());
+        Assertions.assertEquals(teacher, classEntity.getTeacher());
+        Assertions.assertEquals(Set.of(student), classEntity.getStudents());
+        Mockito.verify(classRepository, Mockito.times(1)).findDetailById(expectedClassId);
         Mockito.verify(userService, Mockito.times(1)).getUserEntity(expectedTeacherId);
-        Mockito.verify(teacher, Mockito.times(1)).getRole();
-        Mockito.verify(classEntity, Mockito.times(1)).setTeacher(teacher);
-        Mockito.verify(classRepository, Mockito.times(3)).save(classEntity);
-        Mockito.verify(classEntity, Mockito.times(1)).setStudents(new ArrayList<>());
-        Mockito.verify(userService, Mockito.times(1)).getUserEntity(expectedStudentId);
-        Mockito.verify(student, Mockito.times(1)).getRole();
-        Mockito.verify(classEntity, Mockito.times(1)).addStudent(student);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(classEntity, ClassViewModel.class);
+        Mockito.verify(classRepository, Mockito.times(2)).save(classEntity);
+        Mockito.verify(userService, Mockito.never()).getUserEntity(expectedStudentId);
+        Mockito.verifyNoInteractions(modelMapper);
     }
 
     @Test
@@ -229,52 +337,98 @@ class ClassServiceTests {
                 .build();
         ClassEntity classEntity = Mockito.mock(ClassEntity.class);
         UserEntity teacher = Mockito.mock(UserEntity.class);
-        ClassViewModel viewModel = Mockito.mock(ClassViewModel.class);
 
+        Mockito.when(classEntity.getId()).thenReturn(expectedClassId);
         Mockito.when(classRepository.findById(expectedClassId)).thenReturn(Optional.of(classEntity));
         Mockito.when(userService.getUserEntity(expectedTeacherId)).thenReturn(teacher);
         Mockito.when(teacher.getRole()).thenReturn(RoleEnum.TEACHER);
-        Mockito.when(modelMapper.map(classEntity, ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(classRepository.findSummaryById(expectedClassId))
+                .thenReturn(Optional.of(createSummary(expectedClassId)));
 
         ClassViewModel result = classService.updateClass(expectedClassId, bindingModel);
 
-        Assertions.assertEquals(viewModel, result);
+        Assertions.assertEquals(expectedClassId, result.getId());
+        Assertions.assertEquals(0L, result.getStudentCount());
         Mockito.verify(classRepository, Mockito.times(1)).findById(expectedClassId);
+        Mockito.verify(classRepository, Mockito.never()).findDetailById(Mockito.any());
         Mockito.verify(userService, Mockito.times(1)).getUserEntity(expectedTeacherId);
         Mockito.verify(teacher, Mockito.times(1)).getRole();
         Mockito.verify(classEntity, Mockito.times(1)).setTeacher(teacher);
         Mockito.verify(classRepository, Mockito.times(1)).save(classEntity);
         Mockito.verify(classEntity, Mockito.times(0)).setStudents(new ArrayList<>());
-        Mockito.verify(modelMapper, Mockito.times(1)).map(classEntity, ClassViewModel.class);
+        Mockito.verifyNoInteractions(modelMapper);
     }
 
     @Test
     void testUpdateClassWithStudentIdsOnly() throws EntityNotFoundException, RoleRequirementViolationException {
         long expectedClassId = 1L;
-        long expectedStudentId = 3L;
+        ClassEntity classEntity = new ClassEntity();
+        UserEntity keptStudent = createUser(2L, RoleEnum.STUDENT);
+        UserEntity removedStudent = createUser(3L, RoleEnum.STUDENT);
+        UserEntity addedStudent = createUser(4L, RoleEnum.STUDENT);
+        classEntity.addStudent(keptStudent);
+        classEntity.addStudent(removedStudent);
         AddClassBindingModel bindingModel = AddClassBindingModel
                 .builder()
-                .studentIds(new Long[]{expectedStudentId})
+                .studentIds(new Long[]{2L, 4L})
                 .build();
-        ClassEntity classEntity = Mockito.mock(ClassEntity.class);
-        UserEntity student = Mockito.mock(UserEntity.class);
-        ClassViewModel viewModel = Mockito.mock(ClassViewModel.class);
+        ClassSummaryModel summary = new ClassSummaryModel(expectedClassId, "title", "", null, null, null, 2L);
 
-        Mockito.when(classRepository.findById(expectedClassId)).thenReturn(Optional.of(classEntity));
-        Mockito.when(userService.getUserEntity(expectedStudentId)).thenReturn(student);
-        Mockito.when(student.getRole()).thenReturn(RoleEnum.STUDENT);
-        Mockito.when(modelMapper.map(classEntity, ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(classRepository.findDetailById(expectedClassId)).thenReturn(Optional.of(classEntity));
+        Mockito.when(userService.getUserEntities(Set.of(4L))).thenReturn(List.of(addedStudent));
+        Mockito.when(classRepository.findSummaryById(classEntity.getId())).thenReturn(Optional.of(summary));
 
         ClassViewModel result = classService.updateClass(expectedClassId, bindingModel);
 
-        Assertions.assertEquals(viewModel, result);
-        Mockito.verify(classRepository, Mockito.times(1)).findById(expectedClassId);
-        Mockito.verify(classRepository, Mockito.times(2)).save(classEntity);
-        Mockito.verify(classEntity, Mockito.times(1)).setStudents(new ArrayList<>());
-        Mockito.verify(userService, Mockito.times(1)).getUserEntity(expectedStudentId);
-        Mockito.verify(student, Mockito.times(1)).getRole();
-        Mockito.verify(classEntity, Mockito.times(1)).addStudent(student);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(classEntity, ClassViewModel.class);
+        Assertions.assertEquals(2L, result.getStudentCount());
+        Assertions.assertEquals(Set.of(keptStudent, addedStudent), classEntity.getStudents());
+        Mockito.verify(classRepository, Mockito.times(1)).findDetailById(expectedClassId);
+        Mockito.verify(userService, Mockito.times(1)).getUserEntities(Set.of(4L));
+        Mockito.verify(classRepository, Mockito.times(1)).save(classEntity);
+        Mockito.verifyNoInteractions(modelMapper);
+    }
+
+    @Test
+    void testUpdateClassWithUnchangedStudentIds() throws EntityNotFoundException, RoleRequirementViolationException {
+        long expectedClassId = 1L;
+        ClassEntity classEntity = new ClassEntity();
+        UserEntity student = createUser(2L, RoleEnum.STUDENT);
+        classEntity.addStudent(student);
+        AddClassBindingModel bindingModel = AddClassBindingModel
+                .builder()
+                .studentIds(new Long[]{2L})
+                .build();
+
+        Mockito.when(classRepository.findDetailById(expectedClassId)).thenReturn(Optional.of(classEntity));
+        Mockito.when(classRepository.findSummaryById(classEntity.getId()))
+                .thenReturn(Optional.of(createSummary(expectedClassId)));
+
+        classService.updateClass(expectedClassId, bindingModel);
+
+        Assertions.assertEquals(Set.of(student), classEntity.getStudents());
+        Mockito.verifyNoInteractions(userService);
+        Mockito.verify(classRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void testUpdateClassWithNonStudentLeavesRosterUnchanged() {
+        long expectedClassId = 1L;
+        ClassEntity classEntity = new ClassEntity();
+        UserEntity student = createUser(2L, RoleEnum.STUDENT);
+        UserEntity teacher = createUser(3L, RoleEnum.TEACHER);
+        classEntity.addStudent(student);
+        AddClassBindingModel bindingModel = AddClassBindingModel
+                .builder()
+                .studentIds(new Long[]{3L})
+                .build();
+
+        Mockito.when(classRepository.findDetailById(expectedClassId)).thenReturn(Optional.of(classEntity));
+        Mockito.when(userService.getUserEntities(Set.of(3L))).thenReturn(List.of(teacher));
+
+        Assertions.assertThrows(RoleRequirementViolationException.class,
+                () -> classService.updateClass(expectedClassId, bindingModel));
+        Assertions.assertEquals(Set.of(student), classEntity.getStudents());
+        Mockito.verify(classRepository, Mockito.never()).save(Mockito.any());
     }
 
     @Test
@@ -283,21 +437,116 @@ class ClassServiceTests {
         AddStudentBindingModel bindingModel = Mockito.mock(AddStudentBindingModel.class);
         ClassEntity classEntity = Mockito.mock(ClassEntity.class);
         UserEntity student = Mockito.mock(UserEntity.class);
-        ClassViewModel viewModel = Mockito.mock(ClassViewModel.class);
+        ClassSummaryModel summary = new ClassSummaryModel(expectedClassId, "title", "", null, null, null, 1L);
 
+        Mockito.when(classEntity.getId()).thenReturn(expectedClassId);
         Mockito.when(classRepository.findById(expectedClassId)).thenReturn(Optional.of(classEntity));
         Mockito.when(userService.getUserEntity(bindingModel.getStudentId())).thenReturn(student);
         Mockito.when(student.getRole()).thenReturn(RoleEnum.STUDENT);
-        Mockito.when(modelMapper.map(classEntity, ClassViewModel.class)).thenReturn(viewModel);
+        Mockito.when(classRepository.findSummaryById(expectedClassId)).thenReturn(Optional.of(summary));
 
         ClassViewModel result = classService.addStudent(expectedClassId, bindingModel);
 
-        Assertions.assertEquals(viewModel, result);
+        Assertions.assertEquals(expectedClassId, result.getId());
+        Assertions.assertEquals(1L, result.getStudentCount());
         Mockito.verify(classRepository, Mockito.times(1)).findById(expectedClassId);
+        Mockito.verify(classRepository, Mockito.never()).findDetailById(Mockito.any());
         Mockito.verify(userService, Mockito.times(1)).getUserEntity(bindingModel.getStudentId());
         Mockito.verify(student, Mockito.times(1)).getRole();
         Mockito.verify(classEntity, Mockito.times(1)).addStudent(student);
         Mockito.verify(classRepository, Mockito.times(1)).save(classEntity);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(classEntity, ClassViewModel.class);
+        Mockito.verifyNoInteractions(modelMapper);
+    }
+
+    @Test
+    void testEnrollStudentsReportsPerIdFailures() throws EntityNotFoundException {
+        long expectedClassId = 1L;
+        ClassEntity classEntity = new ClassEntity();
+        UserEntity student = createUser(2L, RoleEnum.STUDENT);
+        UserEntity teacher = createUser(3L, RoleEnum.TEACHER);
+        UserEntity enrolledStudent = createUser(4L, RoleEnum.STUDENT);
+        classEntity.addStudent(enrolledStudent);
+        AddStudentsBindingModel bindingModel = new AddStudentsBindingModel(new Long[]{2L, 3L, 4L, 5L, 2L});
+
+        Mockito.when(classRepository.findDetailById(expectedClassId)).thenReturn(Optional.of(classEntity));
+        Mockito.when(userService.getUserEntities(Set.of(2L, 3L, 4L, 5L)))
+                .thenReturn(List.of(student, teacher, enrolledStudent));
+
+        EnrollmentViewModel result = classService.enrollStudents(expectedClassId, bindingModel);
+
+        Assertions.assertEquals(expectedClassId, result.getClassId());
+        Assertions.assertArrayEquals(new Long[]{2L}, result.getEnrolledStudentIds());
+        Assertions.assertArrayEquals(new EnrollmentFailureViewModel[]{
+                new EnrollmentFailureViewModel(3L, "User with id 3 is not a student"),
+                new EnrollmentFailureViewModel(4L, "User with id 4 is already enrolled"),
+                new EnrollmentFailureViewModel(5L, "User with id 5 does not exist")
+        }, result.getFailures());
+        Assertions.assertEquals(Set.of(enrolledStudent, student), classEntity.getStudents());
+        Mockito.verify(userService, Mockito.times(1)).getUserEntities(Mockito.any());
+        Mockito.verify(userService, Mockito.never()).getUserEntity(Mockito.anyLong());
+        Mockito.verify(classRepository, Mockito.times(1)).save(classEntity);
+    }
+
+    @Test
+    void testEnrollStudentsWithoutValidStudentsDoesNotSave() throws EntityNotFoundException {
+        long expectedClassId = 1L;
+        ClassEntity classEntity = new ClassEntity();
+        AddStudentsBindingModel bindingModel = new AddStudentsBindingModel(new Long[]{5L});
+
+        Mockito.when(classRepository.findDetailById(expectedClassId)).thenReturn(Optional.of(classEntity));
+        Mockito.when(userService.getUserEntities(Set.of(5L))).thenReturn(List.of());
+
+        EnrollmentViewModel result = classService.enrollStudents(expectedClassId, bindingModel);
+
+        Assertions.assertEquals(0, result.getEnrolledStudentIds().length);
+        Assertions.assertEquals(1, result.getFailures().length);
+        Mockito.verify(classRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void testEnrollStudentsNonexistentClass() {
+        long expectedClassId = 1L;
+
+        Mockito.when(classRepository.findDetailById(expectedClassId)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(EntityNotFoundException.class,
+                () -> classService.enrollStudents(expectedClassId, new AddStudentsBindingModel(new Long[]{2L})));
+        Mockito.verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testAddStudentAlreadyEnrolled() throws EntityNotFoundException, RoleRequirementViolationException {
+        long expectedClassId = 1L;
+        long expectedStudentId = 2L;
+        ClassEntity classEntity = Mockito.mock(ClassEntity.class);
+        UserEntity student = createUser(expectedStudentId, RoleEnum.STUDENT);
+
+        Mockito.when(classEntity.getId()).thenReturn(expectedClassId);
+        Mockito.when(classRepository.findById(expectedClassId)).thenReturn(Optional.of(classEntity));
+        Mockito.when(userService.getUserEntity(expectedStudentId)).thenReturn(student);
+        Mockito.when(classRepository.existsByIdAndStudentsId(expectedClassId, expectedStudentId)).thenReturn(true);
+        Mockito.when(classRepository.findSummaryById(expectedClassId))
+                .thenReturn(Optional.of(createSummary(expectedClassId)));
+
+        classService.addStudent(expectedClassId, new AddStudentBindingModel(expectedStudentId));
+
+        Mockito.verify(classEntity, Mockito.never()).addStudent(student);
+        Mockito.verify(classRepository, Mockito.never()).save(classEntity);
+    }
+
+    private ClassSummaryModel createSummary(Long id) {
+        return new ClassSummaryModel(id, "title" + id, "", null, null, null, 0L);
+    }
+
+    private UserEntity createUser(Long id, RoleEnum role) {
+        UserEntity user = Mockito.mock(UserEntity.class);
+        Mockito.when(user.getId()).thenReturn(id);
+        Mockito.when(user.getRole()).thenReturn(role);
+
+        return user;
+    }
+
+    private String encodeCursor(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
     }
 }
@@ -0,0 +1,89 @@
+package org.studentmanagement.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.studentmanagement.services.implementations.CredentialCacheServiceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@SpringBootTest
+class CredentialCacheServiceTests {
+    private CredentialCacheService credentialCacheService;
+
+    @BeforeEach
+    void setUp() {
+        credentialCacheService = new CredentialCacheServiceImpl(100L, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testGetAuthenticatedUserAfterPut() {
+        UserDetails user = createUser("mail");
+
+        credentialCacheService.putAuthenticatedUser("mail", "password", user);
+        Optional<UserDetails> result = credentialCacheService.getAuthenticatedUser("mail", "password");
+
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(user, result.get());
+    }
+
+    @Test
+    void testGetAuthenticatedUserWithWrongPassword() {
+        credentialCacheService.putAuthenticatedUser("mail", "password", createUser("mail"));
+
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mail", "wrong").isEmpty());
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mail", "password ").isEmpty());
+    }
+
+    @Test
+    void testGetAuthenticatedUserDoesNotMixUsernameAndPassword() {
+        credentialCacheService.putAuthenticatedUser("mail", "password", createUser("mail"));
+
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mailpass", "word").isEmpty());
+    }
+
+    @Test
+    void testEvictUser() {
+        credentialCacheService.putAuthenticatedUser("mail", "password", createUser("mail"));
+        credentialCacheService.putAuthenticatedUser("otherMail", "password", createUser("otherMail"));
+
+        credentialCacheService.evictUser("mail");
+
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mail", "password").isEmpty());
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("otherMail", "password").isPresent());
+    }
+
+    @Test
+    void testEvictUserRemovesEveryCachedCredential() {
+        credentialCacheService.putAuthenticatedUser("mail", "password", createUser("mail"));
+        credentialCacheService.putAuthenticatedUser("mail", "previousPassword", createUser("mail"));
+
+        credentialCacheService.evictUser("mail");
+        credentialCacheService.evictUser("mail");
+
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mail", "password").isEmpty());
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mail", "previousPassword").isEmpty());
+    }
+
+    @Test
+    void testPutAfterEvictUser() {
+        credentialCacheService.putAuthenticatedUser("mail", "password", createUser("mail"));
+        credentialCacheService.evictUser("mail");
+
+        credentialCacheService.putAuthenticatedUser("mail", "password", createUser("mail"));
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mail", "password").isPresent());
+
+        credentialCacheService.evictUser("mail");
+        Assertions.assertTrue(credentialCacheService.getAuthenticatedUser("mail", "password").isEmpty());
+    }
+
+    private UserDetails createUser(String username) {
+        return new User(username, "", List.of(new SimpleGrantedAuthority("STUDENT")));
+    }
+}
@@ -0,0 +1,102 @@
+package org.studentmanagement.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.studentmanagement.services.implementations.SchemaUpgradeServiceImpl;
+
+import java.util.UUID;
+
+@SpringBootTest
+class SchemaUpgradeServiceTests {
+    private JdbcTemplate jdbcTemplate;
+    private SchemaUpgradeService schemaUpgradeService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        schemaUpgradeService = new SchemaUpgradeServiceImpl(dataSource);
+    }
+
+    @Test
+    void testUpgradeSchemaOnEmptyDatabase() {
+        Assertions.assertDoesNotThrow(() -> schemaUpgradeService.upgradeSchema());
+    }
+
+    @Test
+    void testUpgradeSchemaPurgesTokensWithoutTokenId() {
+        jdbcTemplate.execute("create table tokens (id bigint primary key, token varchar(255))");
+        jdbcTemplate.update("insert into tokens (id, token) values (1, 'token')");
+
+        schemaUpgradeService.upgradeSchema();
+
+        Assertions.assertEquals(0, countRows("tokens"));
+    }
+
+    @Test
+    void testUpgradeSchemaKeepsTokensWithTokenId() {
+        jdbcTemplate.execute("create table tokens (id bigint primary key, token_id varchar(36))");
+        jdbcTemplate.update("insert into tokens (id, token_id) values (1, 'token-id')");
+
+        schemaUpgradeService.upgradeSchema();
+
+        Assertions.assertEquals(1, countRows("tokens"));
+    }
+
+    @Test
+    void testUpgradeSchemaDropsUniqueTokenUserConstraint() {
+        jdbcTemplate.execute("create table tokens (id bigint primary key, token_id varchar(36), user_id bigint, " +
+                "constraint uk_tokens_user unique (user_id))");
+        jdbcTemplate.update("insert into tokens (id, token_id, user_id) values (1, 'first', 1)");
+
+        schemaUpgradeService.upgradeSchema();
+        jdbcTemplate.update("insert into tokens (id, token_id, user_id) values (2, 'second', 1)");
+
+        Assertions.assertEquals(2, countRows("tokens"));
+    }
+
+    @Test
+    void testUpgradeSchemaKeepsOtherTokenConstraints() {
+        jdbcTemplate.execute("create table tokens (id bigint primary key, token_id varchar(36), user_id bigint, " +
+                "constraint uk_tokens_token_id unique (token_id))");
+        jdbcTemplate.update("insert into tokens (id, token_id, user_id) values (1, 'first', 1)");
+
+        schemaUpgradeService.upgradeSchema();
+
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "insert into tokens (id, token_id, user_id) values (2, 'first', 2)"));
+    }
+
+    @Test
+    void testUpgradeSchemaAddsClassStudentsPrimaryKey() {
+        jdbcTemplate.execute("create table classes_students (class_entity_id bigint not null, students_id bigint not null)");
+        jdbcTemplate.update("insert into classes_students (class_entity_id, students_id) values (1, 10), (1, 10), (1, 11)");
+
+        schemaUpgradeService.upgradeSchema();
+
+        Assertions.assertEquals(2, countRows("classes_students"));
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "insert into classes_students (class_entity_id, students_id) values (1, 11)"));
+    }
+
+    @Test
+    void testUpgradeSchemaKeepsExistingClassStudentsPrimaryKey() {
+        jdbcTemplate.execute("create table classes_students (class_entity_id bigint not null, students_id bigint not null, " +
+                "primary key (class_entity_id, students_id))");
+        jdbcTemplate.update("insert into classes_students (class_entity_id, students_id) values (1, 10)");
+
+        schemaUpgradeService.upgradeSchema();
+
+        Assertions.assertEquals(1, countRows("classes_students"));
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
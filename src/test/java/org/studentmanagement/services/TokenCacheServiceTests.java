@@ -0,0 +1,137 @@
+package org.studentmanagement.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.studentmanagement.data.models.VerifiedTokenModel;
+import org.studentmanagement.providers.TimeProvider;
+import org.studentmanagement.services.implementations.TokenCacheServiceImpl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+@SpringBootTest
+class TokenCacheServiceTests {
+    @Mock
+    private TimeProvider timeProvider;
+    private TokenCacheService tokenCacheService;
+    private Instant currentTime;
+
+    @BeforeEach
+    void setUp() {
+        timeProvider = Mockito.mock(TimeProvider.class);
+        currentTime = Instant.now();
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime);
+        tokenCacheService = new TokenCacheServiceImpl(100L, timeProvider);
+    }
+
+    @Test
+    void testGetVerifiedTokenAfterPut() {
+        String token = "token";
+        VerifiedTokenModel verifiedToken = createVerifiedToken("mail", 10);
+
+        tokenCacheService.putVerifiedToken(token, verifiedToken);
+        Optional<VerifiedTokenModel> result = tokenCacheService.getVerifiedToken(token);
+
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(verifiedToken, result.get());
+    }
+
+    @Test
+    void testGetVerifiedTokenUnknownToken() {
+        Optional<VerifiedTokenModel> result = tokenCacheService.getVerifiedToken("token");
+
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testGetVerifiedTokenExpiredToken() {
+        String token = "token";
+        tokenCacheService.putVerifiedToken(token, createVerifiedToken("mail", 10));
+
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime.plus(11, ChronoUnit.MINUTES));
+        Optional<VerifiedTokenModel> result = tokenCacheService.getVerifiedToken(token);
+
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testEvictToken() {
+        String token = "token";
+        tokenCacheService.putVerifiedToken(token, createVerifiedToken("mail", 10));
+
+        tokenCacheService.evictToken(token);
+
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(token).isEmpty());
+    }
+
+    @Test
+    void testEvictUserTokens() {
+        String firstToken = "firstToken";
+        String secondToken = "secondToken";
+        String otherUserToken = "otherUserToken";
+        tokenCacheService.putVerifiedToken(firstToken, createVerifiedToken("mail", 10));
+        tokenCacheService.putVerifiedToken(secondToken, createVerifiedToken("mail", 10));
+        tokenCacheService.putVerifiedToken(otherUserToken, createVerifiedToken("otherMail", 10));
+
+        tokenCacheService.evictUserTokens("mail");
+
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(firstToken).isEmpty());
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(secondToken).isEmpty());
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(otherUserToken).isPresent());
+    }
+
+    @Test
+    void testEvictUserTokensAfterSingleEviction() {
+        String firstToken = "firstToken";
+        String secondToken = "secondToken";
+        tokenCacheService.putVerifiedToken(firstToken, createVerifiedToken("mail", 10));
+        tokenCacheService.putVerifiedToken(secondToken, createVerifiedToken("mail", 10));
+
+        tokenCacheService.evictToken(firstToken);
+        tokenCacheService.evictUserTokens("mail");
+
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(firstToken).isEmpty());
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(secondToken).isEmpty());
+    }
+
+    @Test
+    void testEvictUserTokensAfterEvictAll() {
+        String token = "token";
+        tokenCacheService.putVerifiedToken(token, createVerifiedToken("mail", 10));
+        tokenCacheService.evictAll();
+        tokenCacheService.putVerifiedToken(token, createVerifiedToken("mail", 10));
+
+        tokenCacheService.evictUserTokens("mail");
+
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(token).isEmpty());
+    }
+
+    @Test
+    void testEvictAll() {
+        String token = "token";
+        tokenCacheService.putVerifiedToken(token, createVerifiedToken("mail", 10));
+
+        tokenCacheService.evictAll();
+
+        Assertions.assertTrue(tokenCacheService.getVerifiedToken(token).isEmpty());
+    }
+
+    private VerifiedTokenModel createVerifiedToken(String subject, long minutesToExpiration) {
+        return new VerifiedTokenModel(
+                "tokenId",
+                subject,
+                1L,
+                0L,
+                List.<GrantedAuthority>of(new SimpleGrantedAuthority("STUDENT")),
+                currentTime.plus(minutesToExpiration, ChronoUnit.MINUTES)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package org.studentmanagement.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.studentmanagement.providers.TimeProvider;
+import org.studentmanagement.services.implementations.TokenDenylistServiceImpl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@SpringBootTest
+class TokenDenylistServiceTests {
+    @Mock
+    private TimeProvider timeProvider;
+    private TokenDenylistService tokenDenylistService;
+    private Instant currentTime;
+
+    @BeforeEach
+    void setUp() {
+        timeProvider = Mockito.mock(TimeProvider.class);
+        currentTime = Instant.now();
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime);
+        tokenDenylistService = new TokenDenylistServiceImpl(timeProvider);
+    }
+
+    @Test
+    void testRevokedTokenIsDenied() {
+        String tokenId = "tokenId";
+
+        tokenDenylistService.revoke(tokenId, currentTime.plus(10, ChronoUnit.MINUTES));
+
+        Assertions.assertTrue(tokenDenylistService.isRevoked(tokenId));
+        Assertions.assertFalse(tokenDenylistService.isRevoked("otherTokenId"));
+    }
+
+    @Test
+    void testAlreadyExpiredTokenIsNotRetained() {
+        String tokenId = "tokenId";
+
+        tokenDenylistService.revoke(tokenId, currentTime.minus(1, ChronoUnit.MINUTES));
+
+        Assertions.assertFalse(tokenDenylistService.isRevoked(tokenId));
+    }
+
+    @Test
+    void testNullTokenIdIsNotDenied() {
+        tokenDenylistService.revoke(null, currentTime.plus(10, ChronoUnit.MINUTES));
+
+        Assertions.assertFalse(tokenDenylistService.isRevoked(null));
+    }
+}
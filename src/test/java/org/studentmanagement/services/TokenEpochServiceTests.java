@@ -0,0 +1,80 @@
+package org.studentmanagement.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
+import org.studentmanagement.data.repositories.UserRepository;
+import org.studentmanagement.services.implementations.TokenEpochServiceImpl;
+
+import java.util.Optional;
+
+@SpringBootTest
+class TokenEpochServiceTests {
+    @Mock
+    private UserRepository userRepository;
+    private TokenEpochService tokenEpochService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        tokenEpochService = new TokenEpochServiceImpl(userRepository, new MockEnvironment());
+    }
+
+    @Test
+    void testGetEpochLoadsOnce() {
+        long userId = 1L;
+
+        Mockito.when(userRepository.findTokenEpochById(userId)).thenReturn(Optional.of(3L));
+
+        Long firstResult = tokenEpochService.getEpoch(userId);
+        Long secondResult = tokenEpochService.getEpoch(userId);
+
+        Mockito.verify(userRepository, Mockito.times(1)).findTokenEpochById(userId);
+        Assertions.assertEquals(3L, firstResult);
+        Assertions.assertEquals(3L, secondResult);
+    }
+
+    @Test
+    void testGetEpochUnknownUser() {
+        long userId = 1L;
+
+        Mockito.when(userRepository.findTokenEpochById(userId)).thenReturn(Optional.empty());
+
+        Assertions.assertNull(tokenEpochService.getEpoch(userId));
+    }
+
+    @Test
+    void testIncrementEpoch() {
+        long userId = 1L;
+
+        Mockito.when(userRepository.findTokenEpochById(userId))
+                .thenReturn(Optional.of(0L))
+                .thenReturn(Optional.of(1L));
+
+        tokenEpochService.getEpoch(userId);
+        tokenEpochService.incrementEpoch(userId);
+        Long result = tokenEpochService.getEpoch(userId);
+
+        Mockito.verify(userRepository, Mockito.times(1)).incrementTokenEpoch(userId);
+        Mockito.verify(userRepository, Mockito.times(2)).findTokenEpochById(userId);
+        Assertions.assertEquals(1L, result);
+    }
+
+    @Test
+    void testGetEpochWithConfiguredTimeToLive() {
+        long userId = 1L;
+        MockEnvironment environment = new MockEnvironment().withProperty("app.jwt.epoch-cache.ttl", "PT0S");
+        TokenEpochService uncachedEpochService = new TokenEpochServiceImpl(userRepository, environment);
+
+        Mockito.when(userRepository.findTokenEpochById(userId)).thenReturn(Optional.of(3L));
+
+        uncachedEpochService.getEpoch(userId);
+        uncachedEpochService.getEpoch(userId);
+
+        Mockito.verify(userRepository, Mockito.times(2)).findTokenEpochById(userId);
+    }
+}
@@ -0,0 +1,163 @@
+package org.studentmanagement.services;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.studentmanagement.data.models.SigningKeyModel;
+import org.studentmanagement.data.models.TokenClaimsModel;
+import org.studentmanagement.providers.JwtDataProvider;
+import org.studentmanagement.services.implementations.TokenMinterServiceImpl;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest
+class TokenMinterServiceTests {
+    @Mock
+    private JwtDataProvider jwtDataProvider;
+    private TokenMinterService tokenMinterService;
+    private SecretKey key;
+
+    @BeforeEach
+    void setUp() {
+        jwtDataProvider = Mockito.mock(JwtDataProvider.class);
+        key = createKey();
+        Mockito.when(jwtDataProvider.getSigningKey()).thenReturn(new SigningKeyModel("keyId", key, null));
+        tokenMinterService = new TokenMinterServiceImpl(jwtDataProvider);
+    }
+
+    @Test
+    void testMintProducesVerifiableToken() {
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expirationTime = issuedAt.plus(10, ChronoUnit.MINUTES);
+        TokenClaimsModel claims = new TokenClaimsModel(
+                "tokenId", "mail@test.com", 1L, "STUDENT", 2L, issuedAt, expirationTime);
+
+        String token = tokenMinterService.mint(claims);
+        Claims result = createParser(key).parseSignedClaims(token).getPayload();
+
+        Assertions.assertEquals("tokenId", result.getId());
+        Assertions.assertEquals("mail@test.com", result.getSubject());
+        Assertions.assertEquals(1L, result.get(TokenClaimsModel.USER_ID_CLAIM, Long.class));
+        Assertions.assertEquals("STUDENT", result.get(TokenClaimsModel.ROLE_CLAIM, String.class));
+        Assertions.assertEquals(2L, result.get(TokenClaimsModel.EPOCH_CLAIM, Long.class));
+        Assertions.assertEquals(issuedAt, result.getIssuedAt().toInstant());
+        Assertions.assertEquals(expirationTime, result.getExpiration().toInstant());
+    }
+
+    @Test
+    void testMintEscapesSubject() {
+        Instant issuedAt = Instant.now();
+        String subject = "quote\"back\\slash";
+        TokenClaimsModel claims = new TokenClaimsModel(
+                "tokenId", subject, 1L, "STUDENT", 0L, issuedAt, issuedAt.plus(10, ChronoUnit.MINUTES));
+
+        String token = tokenMinterService.mint(claims);
+
+        Assertions.assertEquals(subject, createParser(key).parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    @Test
+    void testMintUsesReloadedKey() {
+        Instant issuedAt = Instant.now();
+        TokenClaimsModel claims = new TokenClaimsModel(
+                "tokenId", "mail@test.com", 1L, "STUDENT", 0L, issuedAt, issuedAt.plus(10, ChronoUnit.MINUTES));
+        tokenMinterService.mint(claims);
+
+        SecretKey reloadedKey = createKey();
+        Mockito.when(jwtDataProvider.getSigningKey()).thenReturn(new SigningKeyModel("reloadedKeyId", reloadedKey, null));
+        String token = tokenMinterService.mint(claims);
+
+        Assertions.assertDoesNotThrow(() -> createParser(reloadedKey).parseSignedClaims(token));
+        Assertions.assertThrows(SignatureException.class, () -> createParser(key).parseSignedClaims(token));
+        Assertions.assertEquals(
+                "reloadedKeyId",
+                createParser(reloadedKey).parseSignedClaims(token).getHeader().getKeyId());
+    }
+
+    @Test
+    void testMintAddsKeyIdHeader() {
+        Instant issuedAt = Instant.now();
+        TokenClaimsModel claims = new TokenClaimsModel(
+                "tokenId", "mail@test.com", 1L, "STUDENT", 0L, issuedAt, issuedAt.plus(10, ChronoUnit.MINUTES));
+
+        String token = tokenMinterService.mint(claims);
+        JwsHeader header = createParser(key).parseSignedClaims(token).getHeader();
+
+        Assertions.assertEquals("keyId", header.getKeyId());
+        Assertions.assertEquals("HS256", header.getAlgorithm());
+    }
+
+    @Test
+    void testMintConcurrently() throws Exception {
+        int threads = 8;
+        int tokensPerThread = 500;
+        Instant issuedAt = Instant.now();
+        JwtParser parser = createParser(key);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+
+            for (int thread = 0; thread < threads; thread++) {
+                long userId = thread;
+
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < tokensPerThread; i++) {
+                        String tokenId = UUID.randomUUID().toString();
+                        String subject = "user" + userId + "-" + i + "@test.com";
+                        String token = tokenMinterService.mint(new TokenClaimsModel(
+                                tokenId,
+                                subject,
+                                userId,
+                                "STUDENT",
+                                i,
+                                issuedAt,
+                                issuedAt.plus(10, ChronoUnit.MINUTES)));
+
+                        Claims claims = parser.parseSignedClaims(token).getPayload();
+                        Assertions.assertEquals(tokenId, claims.getId());
+                        Assertions.assertEquals(subject, claims.getSubject());
+                        Assertions.assertEquals(userId, claims.get(TokenClaimsModel.USER_ID_CLAIM, Long.class));
+                        Assertions.assertEquals(i, claims.get(TokenClaimsModel.EPOCH_CLAIM, Long.class));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SecretKey createKey() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    private JwtParser createParser(SecretKey verificationKey) {
+        return Jwts.parser().verifyWith(verificationKey).build();
+    }
+}
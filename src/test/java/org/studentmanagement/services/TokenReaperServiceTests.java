@@ -0,0 +1,93 @@
+package org.studentmanagement.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.studentmanagement.data.repositories.TokenRepository;
+import org.studentmanagement.providers.DateProvider;
+import org.studentmanagement.providers.JwtDataProvider;
+import org.studentmanagement.providers.TimeProvider;
+import org.studentmanagement.services.implementations.TokenReaperServiceImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+@SpringBootTest
+class TokenReaperServiceTests {
+    @Mock
+    private TokenRepository tokenRepository;
+    @Mock
+    private JwtDataProvider jwtDataProvider;
+    @Mock
+    private TimeProvider timeProvider;
+    @Mock
+    private DateProvider dateProvider;
+    private MeterRegistry meterRegistry;
+    private TokenReaperService tokenReaperService;
+    private Date currentDate;
+
+    @BeforeEach
+    void setUp() {
+        tokenRepository = Mockito.mock(TokenRepository.class);
+        jwtDataProvider = Mockito.mock(JwtDataProvider.class);
+        timeProvider = Mockito.mock(TimeProvider.class);
+        dateProvider = Mockito.mock(DateProvider.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        Instant currentTime = Instant.now();
+        currentDate = Date.from(currentTime);
+        Mockito.when(timeProvider.getCurrentTime()).thenReturn(currentTime);
+        Mockito.when(dateProvider.getDateFrom(currentTime)).thenReturn(currentDate);
+        Mockito.when(jwtDataProvider.getReaperBatchSize()).thenReturn(2);
+        Mockito.when(jwtDataProvider.getReaperPause()).thenReturn(Duration.ZERO);
+
+        tokenReaperService = new TokenReaperServiceImpl(
+                tokenRepository,
+                jwtDataProvider,
+                timeProvider,
+                dateProvider,
+                meterRegistry
+        );
+    }
+
+    @Test
+    void testReapExpiredTokensInBatches() {
+        List<Long> firstBatch = List.of(1L, 2L);
+        List<Long> secondBatch = List.of(3L);
+
+        Mockito.when(tokenRepository.findExpiredTokenIds(currentDate, Limit.of(2)))
+                .thenReturn(firstBatch)
+                .thenReturn(secondBatch);
+        Mockito.when(tokenRepository.deleteByIdIn(firstBatch)).thenReturn(2);
+        Mockito.when(tokenRepository.deleteByIdIn(secondBatch)).thenReturn(1);
+        Mockito.when(tokenRepository.count()).thenReturn(5L);
+
+        tokenReaperService.reapExpiredTokens();
+
+        Mockito.verify(tokenRepository, Mockito.times(2)).findExpiredTokenIds(currentDate, Limit.of(2));
+        Mockito.verify(tokenRepository, Mockito.times(1)).deleteByIdIn(firstBatch);
+        Mockito.verify(tokenRepository, Mockito.times(1)).deleteByIdIn(secondBatch);
+
+        Assertions.assertEquals(3.0, meterRegistry.get("tokens.reaped").counter().count());
+        Assertions.assertEquals(5.0, meterRegistry.get("tokens.table.size").gauge().value());
+    }
+
+    @Test
+    void testReapExpiredTokensNothingExpired() {
+        Mockito.when(tokenRepository.findExpiredTokenIds(currentDate, Limit.of(2))).thenReturn(List.of());
+
+        tokenReaperService.reapExpiredTokens();
+
+        Mockito.verify(tokenRepository, Mockito.never()).deleteByIdIn(ArgumentMatchers.anyCollection());
+        Assertions.assertEquals(0.0, meterRegistry.get("tokens.reaped").counter().count());
+    }
+}
@@ -0,0 +1,73 @@
+package org.studentmanagement.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.studentmanagement.data.enums.TokenStatusEnum;
+import org.studentmanagement.services.implementations.TokenRejectionServiceImpl;
+
+import java.util.Optional;
+
+@SpringBootTest
+class TokenRejectionServiceTests {
+    private MeterRegistry meterRegistry;
+    private TokenRejectionService tokenRejectionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRejectionService = new TokenRejectionServiceImpl(100L, meterRegistry);
+    }
+
+    @Test
+    void testGetRejectionAfterReject() {
+        tokenRejectionService.reject("token", TokenStatusEnum.INVALID_SIGNATURE);
+
+        Optional<TokenStatusEnum> result = tokenRejectionService.getRejection("token");
+
+        Assertions.assertEquals(Optional.of(TokenStatusEnum.INVALID_SIGNATURE), result);
+        Assertions.assertEquals(1.0, getCount(TokenStatusEnum.INVALID_SIGNATURE, "verified"));
+        Assertions.assertEquals(1.0, getCount(TokenStatusEnum.INVALID_SIGNATURE, "cached"));
+    }
+
+    @Test
+    void testGetRejectionUnknownToken() {
+        Assertions.assertTrue(tokenRejectionService.getRejection("token").isEmpty());
+    }
+
+    @Test
+    void testRejectIgnoresValidStatus() {
+        tokenRejectionService.reject("token", TokenStatusEnum.VALID);
+
+        Assertions.assertTrue(tokenRejectionService.getRejection("token").isEmpty());
+    }
+
+    @Test
+    void testRecordRejectionOnlyCounts() {
+        tokenRejectionService.recordRejection(TokenStatusEnum.MALFORMED);
+        tokenRejectionService.recordRejection(TokenStatusEnum.MALFORMED);
+
+        Assertions.assertEquals(2.0, getCount(TokenStatusEnum.MALFORMED, "verified"));
+        Assertions.assertEquals(0.0, getCount(TokenStatusEnum.MALFORMED, "cached"));
+    }
+
+    @Test
+    void testEvictAll() {
+        tokenRejectionService.reject("token", TokenStatusEnum.EXPIRED);
+
+        tokenRejectionService.evictAll();
+
+        Assertions.assertTrue(tokenRejectionService.getRejection("token").isEmpty());
+    }
+
+    private double getCount(TokenStatusEnum status, String source) {
+        return meterRegistry.get("tokens.rejected")
+                .tag("reason", status.name().toLowerCase())
+                .tag("source", source)
+                .counter()
+                .count();
+    }
+}
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.studentmanagement.data.entities.UserEntity;
@@ -24,27 +27,28 @@ import java.util.Optional;
 class UserDetailsServiceTests {
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private CredentialCacheService credentialCacheService;
     private UserDetailsService userDetailsService;
 
     @BeforeEach
     void setUp() {
         userRepository  = Mockito.mock(UserRepository.class);
-        userDetailsService = new UserDetailsServiceImpl(userRepository);
+        credentialCacheService = Mockito.mock(CredentialCacheService.class);
+        userDetailsService = new UserDetailsServiceImpl(userRepository, credentialCacheService, new MockEnvironment());
     }
 
     @Test
     void testLoadUserByUsernameValidUsername() {
         String username = "username";
         UserEntity userEntity = Mockito.mock(UserEntity.class);
-        RoleEnum role = Mockito.mock(RoleEnum.class);
-        String roleString = "role";
+        RoleEnum role = RoleEnum.TEACHER;
         String password = "password";
 
         Mockito.when(userRepository.findUserEntityByEmail(username)).thenReturn(Optional.of(userEntity));
         Mockito.when(userEntity.getRole()).thenReturn(role);
         Mockito.when(userEntity.getEmail()).thenReturn(username);
         Mockito.when(userEntity.getPassword()).thenReturn(password);
-        Mockito.when(role.toString()).thenReturn(roleString);
 
         UserDetails result = userDetailsService.loadUserByUsername(username);
 
@@ -55,10 +59,50 @@ class UserDetailsServiceTests {
         Assertions.assertEquals(password, result.getPassword());
         Assertions.assertArrayEquals(
                 result.getAuthorities().toArray(),
-                new LinkedList<GrantedAuthority>(List.of(new SimpleGrantedAuthority(roleString))).toArray()
+                new LinkedList<GrantedAuthority>(List.of(new SimpleGrantedAuthority(role.name()))).toArray()
         );
     }
 
+    @Test
+    void testLoadUserByUsernameUsesCache() {
+        String username = "username";
+        UserEntity userEntity = Mockito.mock(UserEntity.class);
+
+        Mockito.when(userRepository.findUserEntityByEmail(username)).thenReturn(Optional.of(userEntity));
+        Mockito.when(userEntity.getRole()).thenReturn(RoleEnum.STUDENT);
+        Mockito.when(userEntity.getEmail()).thenReturn(username);
+        Mockito.when(userEntity.getPassword()).thenReturn("password");
+
+        UserDetails firstResult = userDetailsService.loadUserByUsername(username);
+        ((User) firstResult).eraseCredentials();
+        UserDetails secondResult = userDetailsService.loadUserByUsername(username);
+
+        Mockito.verify(userRepository, Mockito.times(1)).findUserEntityByEmail(username);
+        Assertions.assertNotSame(firstResult, secondResult);
+        Assertions.assertEquals("password", secondResult.getPassword());
+    }
+
+    @Test
+    void testEvictUser() {
+        String username = "username";
+        UserEntity userEntity = Mockito.mock(UserEntity.class);
+
+        Mockito.when(userRepository.findUserEntityByEmail(username)).thenReturn(Optional.of(userEntity));
+        Mockito.when(userEntity.getEmail()).thenReturn(username);
+        Mockito.when(userEntity.getPassword()).thenReturn("password");
+        Mockito.when(userEntity.getRole())
+                .thenReturn(RoleEnum.STUDENT)
+                .thenReturn(RoleEnum.TEACHER);
+
+        userDetailsService.loadUserByUsername(username);
+        ((UserDetailsCacheService) userDetailsService).evictUser(username);
+        UserDetails result = userDetailsService.loadUserByUsername(username);
+
+        Mockito.verify(userRepository, Mockito.times(2)).findUserEntityByEmail(username);
+        Mockito.verify(credentialCacheService, Mockito.times(1)).evictUser(username);
+        Assertions.assertTrue(result.getAuthorities().contains(new SimpleGrantedAuthority(RoleEnum.TEACHER.name())));
+    }
+
     @Test
     void testLoadUserByUsernameInvalidUsername() {
         String username = "invalidUsername";
@@ -67,4 +111,36 @@ class UserDetailsServiceTests {
 
         Assertions.assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(username));
     }
+
+    @Test
+    void testUpdatePassword() {
+        String username = "username";
+        String newPassword = "newPassword";
+        UserDetails userDetails = new User(username, "oldPassword", List.of(new SimpleGrantedAuthority("STUDENT")));
+
+        Mockito.when(userRepository.updatePassword(username, "oldPassword", newPassword)).thenReturn(1);
+
+        UserDetails result = ((UserDetailsPasswordService) userDetailsService).updatePassword(userDetails, newPassword);
+
+        Mockito.verify(userRepository, Mockito.times(1)).updatePassword(username, "oldPassword", newPassword);
+        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(credentialCacheService, Mockito.times(1)).evictUser(username);
+
+        Assertions.assertEquals(username, result.getUsername());
+        Assertions.assertEquals(newPassword, result.getPassword());
+        Assertions.assertEquals(userDetails.getAuthorities(), result.getAuthorities());
+    }
+
+    @Test
+    void testUpdatePasswordChangedConcurrently() {
+        String username = "username";
+        UserDetails userDetails = new User(username, "oldPassword", List.of(new SimpleGrantedAuthority("STUDENT")));
+
+        Mockito.when(userRepository.updatePassword(username, "oldPassword", "newPassword")).thenReturn(0);
+
+        UserDetails result = ((UserDetailsPasswordService) userDetailsService).updatePassword(userDetails, "newPassword");
+
+        Assertions.assertSame(userDetails, result);
+        Mockito.verifyNoInteractions(credentialCacheService);
+    }
 }
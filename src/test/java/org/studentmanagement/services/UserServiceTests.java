@@ -10,11 +10,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.modelmapper.ModelMapper;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 import org.studentmanagement.data.bindingModels.LoginBindingModel;
+import org.studentmanagement.data.bindingModels.RefreshTokenBindingModel;
 import org.studentmanagement.data.bindingModels.RegisterUserBindingModel;
 import org.studentmanagement.data.entities.TokenEntity;
 import org.studentmanagement.data.entities.UserEntity;
@@ -24,10 +24,12 @@ import org.studentmanagement.data.viewModels.LoginUserViewModel;
 import org.studentmanagement.data.viewModels.UserViewModel;
 import org.studentmanagement.exceptions.EntityNotFoundException;
 import org.studentmanagement.exceptions.FieldConstraintViolationException;
+import org.studentmanagement.exceptions.InvalidRefreshTokenException;
 import org.studentmanagement.exceptions.UserEntityUniqueConstraintViolationException;
 import org.studentmanagement.services.implementations.UserServiceImpl;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -40,13 +42,13 @@ class UserServiceTests {
     @Mock
     private Validator validator;
     @Mock
-    private AuthenticationManager authenticationManager;
-    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtTokenService jwtTokenService;
     @Mock
     private RoleService roleService;
+    @Mock
+    private UserDetailsCacheService userDetailsCacheService;
     private UserService userService;
 
     @BeforeEach
@@ -54,19 +56,20 @@ class UserServiceTests {
         userRepository = Mockito.mock(UserRepository.class);
         modelMapper = Mockito.mock(ModelMapper.class);
         validator = Mockito.mock(Validator.class);
-        authenticationManager = Mockito.mock(AuthenticationManager.class);
         passwordEncoder = Mockito.mock(PasswordEncoder.class);
         jwtTokenService = Mockito.mock(JwtTokenService.class);
         roleService = Mockito.mock(RoleService.class);
+        userDetailsCacheService = Mockito.mock(UserDetailsCacheService.class);
 
         userService = new UserServiceImpl(
                 userRepository,
                 modelMapper,
                 validator,
-                authenticationManager,
                 passwordEncoder,
                 jwtTokenService,
-                roleService
+                roleService,
+                userDetailsCacheService,
+                TransactionOperations.withoutTransaction()
         );
     }
 
@@ -109,9 +112,9 @@ class UserServiceTests {
         LoginBindingModel bindingModel = Mockito.mock(LoginBindingModel.class);
         String userEmail = "mail";
         String userPassword = "password";
+        String encodedPassword = "encodedPassword";
         UserEntity userEntity = Mockito.mock(UserEntity.class);
         TokenEntity tokenEntity = Mockito.mock(TokenEntity.class);
-        Authentication authentication = Mockito.mock(Authentication.class);
         LoginUserViewModel viewModel = Mockito.mock(LoginUserViewModel.class);
         String token = "token";
         Date expirationDate = Mockito.mock(Date.class);
@@ -119,21 +122,24 @@ class UserServiceTests {
         Mockito.when(bindingModel.getEmail()).thenReturn(userEmail);
         Mockito.when(bindingModel.getPassword()).thenReturn(userPassword);
         Mockito.when(userRepository.findUserEntityByEmail(userEmail)).thenReturn(Optional.of(userEntity));
+        Mockito.when(userEntity.getEmail()).thenReturn(userEmail);
+        Mockito.when(userEntity.getPassword()).thenReturn(encodedPassword);
+        Mockito.when(userEntity.getRole()).thenReturn(RoleEnum.STUDENT);
+        Mockito.when(passwordEncoder.matches(userPassword, encodedPassword)).thenReturn(true);
         Mockito.when(jwtTokenService.generateToken(userEntity)).thenReturn(tokenEntity);
-        Mockito.when(authenticationManager
-                        .authenticate(UsernamePasswordAuthenticationToken.unauthenticated(userEmail, userPassword)))
-                .thenReturn(authentication);
         Mockito.when(modelMapper.map(userEntity, LoginUserViewModel.class)).thenReturn(viewModel);
         Mockito.when(tokenEntity.getToken()).thenReturn(token);
         Mockito.when(tokenEntity.getExpirationDate()).thenReturn(expirationDate);
 
         LoginUserViewModel result = userService.login(bindingModel);
 
-        Mockito.verify(bindingModel, Mockito.times(2)).getEmail();
+        Mockito.verify(bindingModel, Mockito.times(1)).getEmail();
         Mockito.verify(userRepository, Mockito.times(1)).findUserEntityByEmail(userEmail);
+        Mockito.verify(passwordEncoder, Mockito.times(1)).matches(userPassword, encodedPassword);
+        Mockito.verify(passwordEncoder, Mockito.times(0)).encode(userPassword);
+        Mockito.verify(userRepository, Mockito.never())
+                .updatePassword(Mockito.any(), Mockito.any(), Mockito.any());
         Mockito.verify(jwtTokenService, Mockito.times(1)).generateToken(userEntity);
-        Mockito.verify(authenticationManager, Mockito.times(1))
-                .authenticate(UsernamePasswordAuthenticationToken.unauthenticated(userEmail, userPassword));
         Mockito.verify(modelMapper, Mockito.times(1)).map(userEntity, LoginUserViewModel.class);
         Mockito.verify(tokenEntity, Mockito.times(1)).getToken();
         Mockito.verify(viewModel, Mockito.times(1)).setToken(token);
@@ -141,22 +147,122 @@ class UserServiceTests {
         Assertions.assertEquals(viewModel, result);
     }
 
+    @Test
+    void testLoginInvalidPassword() {
+        LoginBindingModel bindingModel = new LoginBindingModel("mail", "wrongPassword");
+        UserEntity userEntity = Mockito.mock(UserEntity.class);
+        String encodedPassword = "encodedPassword";
+
+        Mockito.when(userRepository.findUserEntityByEmail("mail")).thenReturn(Optional.of(userEntity));
+        Mockito.when(userEntity.getPassword()).thenReturn(encodedPassword);
+        Mockito.when(passwordEncoder.matches("wrongPassword", encodedPassword)).thenReturn(false);
+
+        Assertions.assertThrows(BadCredentialsException.class, () -> userService.login(bindingModel));
+
+        Mockito.verifyNoInteractions(jwtTokenService);
+    }
+
+    @Test
+    void testLoginUpgradesPasswordEncoding() throws EntityNotFoundException {
+        LoginBindingModel bindingModel = new LoginBindingModel("mail", "password");
+        UserEntity userEntity = Mockito.mock(UserEntity.class);
+        TokenEntity tokenEntity = Mockito.mock(TokenEntity.class);
+        String encodedPassword = "encodedPassword";
+        String upgradedPassword = "upgradedPassword";
+
+        Mockito.when(userRepository.findUserEntityByEmail("mail")).thenReturn(Optional.of(userEntity));
+        Mockito.when(userEntity.getEmail()).thenReturn("mail");
+        Mockito.when(userEntity.getPassword()).thenReturn(encodedPassword);
+        Mockito.when(userEntity.getRole()).thenReturn(RoleEnum.STUDENT);
+        Mockito.when(passwordEncoder.matches("password", encodedPassword)).thenReturn(true);
+        Mockito.when(passwordEncoder.upgradeEncoding(encodedPassword)).thenReturn(true);
+        Mockito.when(passwordEncoder.encode("password")).thenReturn(upgradedPassword);
+        Mockito.when(jwtTokenService.generateToken(userEntity)).thenReturn(tokenEntity);
+        Mockito.when(modelMapper.map(userEntity, LoginUserViewModel.class)).thenReturn(new LoginUserViewModel());
+
+        userService.login(bindingModel);
+
+        Mockito.verify(userRepository, Mockito.times(1)).updatePassword("mail", encodedPassword, upgradedPassword);
+        Mockito.verify(userRepository, Mockito.never()).save(userEntity);
+        Mockito.verify(userEntity, Mockito.never()).setPassword(Mockito.any());
+        Mockito.verify(userDetailsCacheService, Mockito.times(1)).evictUser("mail");
+    }
+
+    @Test
+    void testRefresh() throws InvalidRefreshTokenException {
+        String refreshToken = "refreshToken";
+        RefreshTokenBindingModel bindingModel = new RefreshTokenBindingModel(refreshToken);
+        UserEntity userEntity = Mockito.mock(UserEntity.class);
+        TokenEntity tokenEntity = Mockito.mock(TokenEntity.class);
+        LoginUserViewModel viewModel = Mockito.mock(LoginUserViewModel.class);
+        String token = "token";
+        String newRefreshToken = "newRefreshToken";
+
+        Mockito.when(jwtTokenService.refreshToken(refreshToken)).thenReturn(tokenEntity);
+        Mockito.when(tokenEntity.getUser()).thenReturn(userEntity);
+        Mockito.when(tokenEntity.getToken()).thenReturn(token);
+        Mockito.when(tokenEntity.getRefreshToken()).thenReturn(newRefreshToken);
+        Mockito.when(modelMapper.map(userEntity, LoginUserViewModel.class)).thenReturn(viewModel);
+
+        LoginUserViewModel result = userService.refresh(bindingModel);
+
+        Mockito.verify(jwtTokenService, Mockito.times(1)).refreshToken(refreshToken);
+        Mockito.verifyNoInteractions(passwordEncoder);
+        Mockito.verify(viewModel, Mockito.times(1)).setToken(token);
+        Mockito.verify(viewModel, Mockito.times(1)).setRefreshToken(newRefreshToken);
+        Assertions.assertEquals(viewModel, result);
+    }
+
+    @Test
+    void testLogout() {
+        String token = "token";
+
+        userService.logout(token);
+
+        Mockito.verify(jwtTokenService, Mockito.times(1)).revokeToken(token);
+    }
+
+    @Test
+    void testLogoutWithoutToken() {
+        userService.logout(null);
+
+        Mockito.verifyNoInteractions(jwtTokenService);
+    }
+
+    @Test
+    void testLogoutEverywhere() throws EntityNotFoundException {
+        String email = "mail";
+        UserEntity userEntity = Mockito.mock(UserEntity.class);
+
+        Mockito.when(userRepository.findUserEntityByEmail(email)).thenReturn(Optional.of(userEntity));
+
+        userService.logoutEverywhere(email);
+
+        Mockito.verify(jwtTokenService, Mockito.times(1)).revokeAllTokens(userEntity);
+    }
+
     @Test
     void testGetUserViewModelById() throws EntityNotFoundException {
         long userId = 1L;
-        UserEntity userEntity = Mockito.mock(UserEntity.class);
-        UserViewModel viewModel = Mockito.mock(UserViewModel.class);
+        UserViewModel viewModel = new UserViewModel("first", "last");
 
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-        Mockito.when(modelMapper.map(userEntity, UserViewModel.class)).thenReturn(viewModel);
+        Mockito.when(userRepository.findViewById(userId)).thenReturn(Optional.of(viewModel));
 
         UserViewModel result = userService.getUser(userId);
 
-        Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-        Mockito.verify(modelMapper, Mockito.times(1)).map(userEntity, UserViewModel.class);
+        Mockito.verify(userRepository, Mockito.times(1)).findViewById(userId);
+        Mockito.verify(userRepository, Mockito.never()).findById(userId);
+        Mockito.verifyNoInteractions(modelMapper);
         Assertions.assertEquals(viewModel, result);
     }
 
+    @Test
+    void testGetUserViewModelNonexistentUser() {
+        Mockito.when(userRepository.findViewById(1L)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(EntityNotFoundException.class, () -> userService.getUser(1L));
+    }
+
     @Test
     void testSetUserRole() throws EntityNotFoundException {
         long userId = 1L;
@@ -166,6 +272,7 @@ class UserServiceTests {
         UserViewModel viewModel = Mockito.mock(UserViewModel.class);
 
         Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
+        Mockito.when(userEntity.getEmail()).thenReturn("mail");
         Mockito.when(roleService.getRole(roleName)).thenReturn(role);
         Mockito.when(modelMapper.map(userEntity, UserViewModel.class)).thenReturn(viewModel);
 
@@ -175,6 +282,8 @@ class UserServiceTests {
         Mockito.verify(roleService, Mockito.times(1)).getRole(roleName);
         Mockito.verify(userEntity, Mockito.times(1)).setRole(role);
         Mockito.verify(userRepository, Mockito.times(1)).save(userEntity);
+        Mockito.verify(userDetailsCacheService, Mockito.times(1)).evictUser("mail");
+        Mockito.verify(jwtTokenService, Mockito.times(1)).revokeAllTokens(userEntity);
         Assertions.assertEquals(viewModel, result);
     }
 
@@ -203,4 +312,18 @@ class UserServiceTests {
         Mockito.verify(userRepository, Mockito.times(1)).findUserEntityByEmail(email);
         Assertions.assertEquals(userEntity, result);
     }
+
+    @Test
+    void testGetUserEntities() {
+        List<Long> ids = List.of(1L, 2L);
+        UserEntity first = Mockito.mock(UserEntity.class);
+        UserEntity second = Mockito.mock(UserEntity.class);
+
+        Mockito.when(userRepository.findAllById(ids)).thenReturn(List.of(first, second));
+
+        List<UserEntity> result = userService.getUserEntities(ids);
+
+        Mockito.verify(userRepository, Mockito.times(1)).findAllById(ids);
+        Assertions.assertEquals(List.of(first, second), result);
+    }
 }
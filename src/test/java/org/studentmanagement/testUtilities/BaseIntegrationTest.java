@@ -15,7 +15,7 @@ import org.studentmanagement.data.enums.RoleEnum;
 import org.studentmanagement.data.repositories.UserRepository;
 import org.studentmanagement.data.viewModels.LoginUserViewModel;
 
-import java.util.LinkedList;
+import java.util.HashSet;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
@@ -33,6 +33,7 @@ public class BaseIntegrationTest {
     private ObjectMapper objectMapper;
 
     public String token;
+    public String refreshToken;
     public UserEntity user;
 
     public void authorize(RoleEnum role) throws Exception {
@@ -42,7 +43,8 @@ public class BaseIntegrationTest {
                 "test",
                 "test",
                 role,
-                new LinkedList<>()
+                new HashSet<>(),
+                0L
         );
         userRepository.save(user);
 
@@ -62,5 +64,6 @@ public class BaseIntegrationTest {
         );
 
         token = viewModel.getToken();
+        refreshToken = viewModel.getRefreshToken();
     }
 }